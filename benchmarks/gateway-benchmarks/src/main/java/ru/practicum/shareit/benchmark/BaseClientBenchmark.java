@@ -0,0 +1,117 @@
+package ru.practicum.shareit.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.netty.resources.ConnectionProvider;
+import ru.practicum.shareit.booking.BookingClient;
+import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.client.ClientConfig;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gateway to server round trip through BookingClient and the shared connection pool, against a local stub
+ * that answers every request with a canned booking page. getBookingsByUserDecoded is the former BaseClient
+ * path for comparison: the body is decoded into maps and lists and serialized again by Jackson, as Spring MVC
+ * did when it wrote the response. Run it with -prof gc to see the bytes allocated per call
+ * (gc.alloc.rate.norm) as the page grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(16)
+@Fork(1)
+public class BaseClientBenchmark {
+    private static final String BOOKING = "{\"id\":%d,\"start\":\"2030-01-01T10:00:00\",\"end\":\"2030-01-01T12:00:00\","
+            + "\"status\":\"APPROVED\",\"item\":{\"id\":1,\"name\":\"Drill\"},\"booker\":{\"id\":2}}";
+
+    @Param({"1", "100", "1000"})
+    int pageSize;
+
+    private HttpServer stub;
+    private ExecutorService stubExecutor;
+    private ConnectionProvider connectionProvider;
+    private BookingClient client;
+    private WebClient decodingClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Setup
+    public void setUp() throws IOException {
+        StringBuilder page = new StringBuilder("[");
+        for (int i = 0; i < pageSize; i++) {
+            page.append(i == 0 ? "" : ",").append(String.format(BOOKING, i + 1));
+        }
+        byte[] body = page.append(']').toString().getBytes(StandardCharsets.UTF_8);
+
+        stubExecutor = Executors.newFixedThreadPool(32);
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.setExecutor(stubExecutor);
+        stub.start();
+
+        ClientConfig config = new ClientConfig();
+        connectionProvider = config.shareItServerConnectionProvider(200, Duration.ofSeconds(10),
+                Duration.ofSeconds(30), Duration.ofSeconds(60));
+        WebClient.Builder builder = WebClient.builder();
+        config.shareItServerConnector(connectionProvider, Duration.ofSeconds(2), Duration.ofSeconds(30))
+                .customize(builder);
+        String serverUrl = "http://localhost:" + stub.getAddress().getPort();
+        client = new BookingClient(serverUrl, builder);
+        decodingClient = builder.uriBuilderFactory(new DefaultUriBuilderFactory(serverUrl)).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        connectionProvider.dispose();
+        stub.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> getBookingsByUser() {
+        return client.getBookingsByUser(1, BookingState.ALL, 0, pageSize, null).block();
+    }
+
+    @Benchmark
+    public byte[] getBookingsByUserDecoded() throws JsonProcessingException {
+        Object body = decodingClient.get()
+                .uri("/bookings?state={state}&from={from}&size={size}", BookingState.ALL.name(), 0, pageSize)
+                .header("X-Sharer-User-Id", "1")
+                .exchangeToMono(response -> response.bodyToMono(Object.class))
+                .block();
+        return objectMapper.writeValueAsBytes(body);
+    }
+}
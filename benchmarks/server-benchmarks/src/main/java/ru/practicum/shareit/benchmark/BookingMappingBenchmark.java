@@ -0,0 +1,69 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingDtoResponse;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Entity to DTO mapping of one page of bookings and one page of item requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingMappingBenchmark {
+    @Param({"10", "100", "1000"})
+    int pageSize;
+
+    private List<Booking> bookings;
+    private List<ItemRequest> requests;
+    private List<Item> requestItems;
+
+    @Setup
+    public void setUp() {
+        User owner = Fixtures.user(1);
+        bookings = Fixtures.bookings(Fixtures.item(1, owner), pageSize);
+        requests = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            requests.add(Fixtures.request(i + 1, Fixtures.user(2)));
+        }
+        requestItems = List.of(Fixtures.item(2, owner), Fixtures.item(3, owner), Fixtures.item(4, owner));
+    }
+
+    @Benchmark
+    public List<BookingDtoResponse> toBookingDtoResponse() {
+        return bookings
+                .stream()
+                .map(BookingDtoResponse::toBookingDtoResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<ItemRequestDto> toItemRequestDto() {
+        return requests
+                .stream()
+                .map(r -> ItemRequestDto.toItemRequestDto(r, requestItems))
+                .collect(Collectors.toList());
+    }
+}
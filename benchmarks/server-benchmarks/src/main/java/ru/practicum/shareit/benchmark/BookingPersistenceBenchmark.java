@@ -0,0 +1,134 @@
+package ru.practicum.shareit.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk booking inserts and the GET /bookings/{id} service path against a real PostgreSQL database.
+ * Run it against a scratch database: -p dbUrl=jdbc:postgresql://localhost:5432/shareit_bench
+ * {@code secondLevelCache=false} turns the Hibernate entity and query caches off for a baseline.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+public class BookingPersistenceBenchmark {
+    private static final int INSERT_COUNT = 100_000;
+    private static final int FLUSH_EVERY = 1_000;
+
+    @Param("jdbc:postgresql://localhost:5432/shareit")
+    String dbUrl;
+
+    @Param("postgres")
+    String dbUser;
+
+    @Param("1111")
+    String dbPassword;
+
+    @Param({"true", "false"})
+    String secondLevelCache;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager entityManager;
+    private BookingService bookingService;
+    private JdbcTemplate jdbcTemplate;
+    private User booker;
+    private Item item;
+    private Integer bookingId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + dbUrl,
+                        "--spring.datasource.username=" + dbUser,
+                        "--spring.datasource.password=" + dbPassword,
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache,
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=" + secondLevelCache,
+                        "--logging.level.root=WARN");
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        entityManager = context.getBean(EntityManager.class);
+        bookingService = context.getBean(BookingService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        long suffix = System.nanoTime();
+        User owner = userRepository.save(new User(null, "Bench owner", "owner" + suffix + "@bench.local"));
+        booker = userRepository.save(new User(null, "Bench booker", "booker" + suffix + "@bench.local"));
+        item = context.getBean(ItemRepository.class)
+                .save(new Item(null, "Bench item", Fixtures.DESCRIPTION, true, owner.getId(), null, null));
+        bookingId = context.getBean(BookingRepository.class)
+                .save(new Booking(null, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), item,
+                        booker, Status.WAITING, null))
+                .getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.update("delete from bookings where item_id = ?", item.getId());
+        jdbcTemplate.update("delete from items where id = ?", item.getId());
+        jdbcTemplate.update("delete from users where id in (?, ?)", booker.getId(), item.getOwnerId());
+        context.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5)
+    public void insert100kBookings() {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime start = LocalDateTime.now().plusYears(1);
+            Item itemRef = entityManager.getReference(Item.class, item.getId());
+            User bookerRef = entityManager.getReference(User.class, booker.getId());
+            for (int i = 0; i < INSERT_COUNT; i++) {
+                entityManager.persist(new Booking(null, start.plusHours(i), start.plusHours(i).plusMinutes(30),
+                        itemRef, bookerRef, Status.WAITING, null));
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    itemRef = entityManager.getReference(Item.class, item.getId());
+                    bookerRef = entityManager.getReference(User.class, booker.getId());
+                }
+            }
+        });
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 3, time = 5)
+    @Measurement(iterations = 5, time = 5)
+    public BookingDto getBooking() {
+        return bookingService.getBooking(bookingId, booker.getId());
+    }
+}
@@ -0,0 +1,59 @@
+package ru.practicum.shareit.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingDtoResponse;
+import ru.practicum.shareit.booking.model.Booking;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Jackson serialization of one booking page, as the list endpoints return it and with full item and booker.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingSerializationBenchmark {
+    @Param({"10", "100", "1000"})
+    int pageSize;
+
+    private ObjectMapper mapper;
+    private List<BookingDtoResponse> page;
+    private List<BookingDto> fullPage;
+
+    @Setup
+    public void setUp() {
+        mapper = Jackson2ObjectMapperBuilder.json().build();
+        List<Booking> bookings = Fixtures.bookings(Fixtures.item(1, Fixtures.user(1)), pageSize);
+        page = bookings.stream().map(BookingDtoResponse::toBookingDtoResponse).collect(Collectors.toList());
+        fullPage = bookings.stream().map(BookingDto::toBookingDto).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] bookingPage() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] fullBookingPage() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(fullPage);
+    }
+}
@@ -0,0 +1,60 @@
+package ru.practicum.shareit.benchmark;
+
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic in-memory entities shaped like the ones the server loads from the database.
+ */
+final class Fixtures {
+    static final String DESCRIPTION = "Cordless drill with two batteries, charger and a case of bits. ".repeat(8);
+
+    private Fixtures() {
+    }
+
+    static User user(int id) {
+        return new User(id, "User " + id, "user" + id + "@mail.ru");
+    }
+
+    static Item item(int id, User owner) {
+        return new Item(id, "Item " + id, DESCRIPTION, true, owner.getId(), null, 0L);
+    }
+
+    /**
+     * Bookings spread evenly around now, one hour apart, every fifth one not approved.
+     */
+    static List<Booking> bookings(Item item, int count) {
+        Random random = new Random(42);
+        LocalDateTime first = LocalDateTime.now().minusHours(count / 2);
+        List<Booking> bookings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime start = first.plusHours(i);
+            Status status = i % 5 == 0 ? Status.WAITING : Status.APPROVED;
+            bookings.add(new Booking(i + 1, start, start.plusMinutes(30 + random.nextInt(30)), item,
+                    user(1000 + random.nextInt(100)), status, 0L));
+        }
+        return bookings;
+    }
+
+    static List<Comment> comments(Item item, int count) {
+        List<Comment> comments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            comments.add(new Comment(i + 1, "Works fine, returned on time " + i, item, "User " + i,
+                    LocalDateTime.now().minusDays(i)));
+        }
+        return comments;
+    }
+
+    static ItemRequest request(int id, User requestor) {
+        return new ItemRequest(id, "Need a drill for the weekend", requestor, LocalDateTime.now().minusDays(1));
+    }
+}
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Mapping of the owner's item list as ItemServiceImpl.getItemsByUser does it: the last and next approved
+ * bookings of each item come from the database already picked, so the cost grows with the number of items
+ * and not with their booking history.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemDtoWithBookingBenchmark {
+    @Param({"10", "100", "1000"})
+    int itemCount;
+
+    private final List<Item> items = new ArrayList<>();
+    private final List<Booking> lastBookings = new ArrayList<>();
+    private final List<Booking> nextBookings = new ArrayList<>();
+    private final List<List<Comment>> comments = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        User owner = Fixtures.user(1);
+        for (int i = 0; i < itemCount; i++) {
+            Item item = Fixtures.item(i + 1, owner);
+            List<Booking> bookings = Fixtures.bookings(item, 2);
+            items.add(item);
+            lastBookings.add(bookings.get(0));
+            nextBookings.add(bookings.get(1));
+            comments.add(Fixtures.comments(item, 10));
+        }
+    }
+
+    @Benchmark
+    public List<ItemDtoWithBooking> toItemDtoWithBooking() {
+        List<ItemDtoWithBooking> dtos = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            dtos.add(ItemDtoWithBooking.toItemDtoWithBooking(items.get(i), lastBookings.get(i), nextBookings.get(i),
+                    comments.get(i)));
+        }
+        return dtos.stream()
+                .sorted(Comparator.comparingInt(ItemDtoWithBooking::getId))
+                .collect(Collectors.toList());
+    }
+}
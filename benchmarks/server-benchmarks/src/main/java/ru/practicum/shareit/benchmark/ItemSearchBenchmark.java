@@ -0,0 +1,111 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranked item search (GET /items/search) over a million items, with the trigram indexes from V2 and with
+ * index scans disabled for the same query, which is what the search cost without them.
+ * Run it against a scratch database with a UTF-8 LC_CTYPE, otherwise lower() keeps Cyrillic names as they are
+ * and the first search text matches nothing: -p dbUrl=jdbc:postgresql://localhost:5432/shareit_bench
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ItemSearchBenchmark {
+    private static final int ITEM_COUNT = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param("jdbc:postgresql://localhost:5432/shareit")
+    String dbUrl;
+
+    @Param("postgres")
+    String dbUser;
+
+    @Param("1111")
+    String dbPassword;
+
+    /**
+     * A name shared by a tenth of the items and a number found in a handful of them.
+     */
+    @Param({"палатка", "123456"})
+    String text;
+
+    @Param({"indexed", "seqscan"})
+    String mode;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private ItemService itemService;
+    private User owner;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + dbUrl,
+                        "--spring.datasource.username=" + dbUser,
+                        "--spring.datasource.password=" + dbPassword,
+                        "--logging.level.root=WARN");
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        itemService = context.getBean(ItemService.class);
+
+        owner = context.getBean(UserRepository.class)
+                .save(new User(null, "Bench owner", "owner" + System.nanoTime() + "@bench.local"));
+        jdbcTemplate.update("insert into items (id, name, description, is_available, owner_id) " +
+                        "select nextval('items_seq'), " +
+                        "(array['Дрель', 'Палатка', 'Велосипед', 'Самокат', 'Лобзик', 'Шуруповерт', 'Стремянка', " +
+                        "'Перфоратор', 'Надувная лодка', 'Отвертка'])[1 + g % 10] || ' ' || g, " +
+                        "'В хорошем состоянии, комплект ' || md5(g::text), g % 10 <> 0, ? " +
+                        "from generate_series(1, ?) g",
+                owner.getId(), ITEM_COUNT);
+        jdbcTemplate.execute("vacuum analyze items");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.update("delete from items where owner_id = ?", owner.getId());
+        jdbcTemplate.update("delete from users where id = ?", owner.getId());
+        context.close();
+    }
+
+    @Benchmark
+    public List<ItemDto> search() {
+        return transactionTemplate.execute(status -> {
+            if ("seqscan".equals(mode)) {
+                jdbcTemplate.execute("set local enable_indexscan = off");
+                jdbcTemplate.execute("set local enable_bitmapscan = off");
+            }
+            return itemService.getItemsByText(text, 0, PAGE_SIZE);
+        });
+    }
+}
@@ -2,15 +2,16 @@ package ru.practicum.shareit.booking;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.booking.dto.BookItemRequestDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 import ru.practicum.shareit.client.BaseClient;
+import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -18,28 +19,38 @@ public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .uriBuilderFactory(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
                         .build()
         );
     }
 
-    public ResponseEntity<Object> bookItem(Integer userId, BookItemRequestDto requestDto) {
+    public Mono<ResponseEntity<Object>> bookItem(Integer userId, BookItemRequestDto requestDto) {
         return post("", userId, requestDto);
     }
 
-    ;
+    public Mono<ResponseEntity<Object>> bookItems(Integer userId, List<BookItemRequestDto> requestDtos) {
+        return post("/batch", userId, requestDtos);
+    }
 
-    public ResponseEntity<Object> update(Integer bookingId, Integer userId, Boolean approved) {
+    public Mono<ResponseEntity<Object>> update(Integer bookingId, Integer userId, Boolean approved) {
 
         return patch(String.format("/%s?approved=%s", bookingId, approved), userId);
 
     }
 
-    public ResponseEntity<Object> getBookingsByUser(Integer userId, BookingState state, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> getBookingsByUser(Integer userId, BookingState state, Integer from,
+                                                          Integer size, String cursor) {
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of(
+                    "state", state.name(),
+                    "cursor", cursor,
+                    "size", size
+            );
+            return get("?state={state}&cursor={cursor}&size={size}", Long.valueOf(userId), parameters);
+        }
         Map<String, Object> parameters = Map.of(
                 "state", state.name(),
                 "from", from,
@@ -48,7 +59,16 @@ public class BookingClient extends BaseClient {
         return get("?state={state}&from={from}&size={size}", Long.valueOf(userId), parameters);
     }
 
-    public ResponseEntity<Object> getBookingsByOwner(Integer ownerId, BookingState state, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> getBookingsByOwner(Integer ownerId, BookingState state, Integer from,
+                                                           Integer size, String cursor) {
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of(
+                    "state", state.name(),
+                    "cursor", cursor,
+                    "size", size
+            );
+            return get("/owner?state={state}&cursor={cursor}&size={size}", Long.valueOf(ownerId), parameters);
+        }
         Map<String, Object> parameters = Map.of(
                 "state", state.name(),
                 "from", from,
@@ -57,7 +77,7 @@ public class BookingClient extends BaseClient {
         return get("/owner?state={state}&from={from}&size={size}", Long.valueOf(ownerId), parameters);
     }
 
-    public ResponseEntity<Object> getBooking(Integer userId, Integer bookingId) {
+    public Mono<ResponseEntity<Object>> getBooking(Integer userId, Integer bookingId) {
         return get(String.format("/%s", bookingId), userId);
     }
 }
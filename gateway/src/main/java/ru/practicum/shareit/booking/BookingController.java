@@ -7,12 +7,18 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.booking.dto.BookItemRequestDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 
-import javax.validation.Valid;
-import javax.validation.constraints.Positive;
-import javax.validation.constraints.PositiveOrZero;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
 
 @Controller
 @RequestMapping(path = "/bookings")
@@ -24,48 +30,60 @@ public class BookingController {
     private final String header = "X-Sharer-User-Id";
 
     @GetMapping
-    public ResponseEntity<Object> getAllByUser(@RequestHeader(header) Integer userId,
-                                               @RequestParam(name = "state", defaultValue = "all") String stateParam,
-                                               @RequestParam(name = "from", defaultValue = "0")
-                                               @PositiveOrZero Integer from,
-                                               @RequestParam(name = "size", defaultValue = "10")
-                                               @Positive Integer size) {
+    public Mono<ResponseEntity<Object>> getAllByUser(@RequestHeader(header) Integer userId,
+                                                     @RequestParam(name = "state", defaultValue = "all") String stateParam,
+                                                     @RequestParam(name = "from", defaultValue = "0")
+                                                     @PositiveOrZero Integer from,
+                                                     @RequestParam(name = "size", defaultValue = "10")
+                                                     @Positive Integer size,
+                                                     @RequestParam(name = "cursor", required = false) String cursor) {
         BookingState state = BookingState.from(stateParam)
                 .orElseThrow(() -> new IllegalArgumentException(String.format("Unknown state: %s", stateParam)));
-        log.info("Get booking with state {}, userId={}, from={}, size={}", stateParam, userId, from, size);
-        return bookingClient.getBookingsByUser(userId, state, from, size);
+        log.info("Get booking with state {}, userId={}, from={}, size={}, cursor={}",
+                stateParam, userId, from, size, cursor);
+        return bookingClient.getBookingsByUser(userId, state, from, size, cursor);
     }
 
     @GetMapping("/owner")
-    public ResponseEntity<Object> getAllByOwner(@RequestHeader(header) Integer ownerId,
-                                                @RequestParam(name = "state", defaultValue = "all") String stateParam,
-                                                @RequestParam(name = "from", defaultValue = "0")
-                                                @PositiveOrZero Integer from,
-                                                @RequestParam(name = "size", defaultValue = "10")
-                                                @Positive Integer size) {
+    public Mono<ResponseEntity<Object>> getAllByOwner(@RequestHeader(header) Integer ownerId,
+                                                      @RequestParam(name = "state", defaultValue = "all") String stateParam,
+                                                      @RequestParam(name = "from", defaultValue = "0")
+                                                      @PositiveOrZero Integer from,
+                                                      @RequestParam(name = "size", defaultValue = "10")
+                                                      @Positive Integer size,
+                                                      @RequestParam(name = "cursor", required = false) String cursor) {
         BookingState state = BookingState.from(stateParam)
                 .orElseThrow(() -> new IllegalArgumentException(String.format("Unknown state: %s", stateParam)));
-        log.info("Get booking with state {}, ownerId={}, from={}, size={}", stateParam, ownerId, from, size);
-        return bookingClient.getBookingsByOwner(ownerId, state, from, size);
+        log.info("Get booking with state {}, ownerId={}, from={}, size={}, cursor={}",
+                stateParam, ownerId, from, size, cursor);
+        return bookingClient.getBookingsByOwner(ownerId, state, from, size, cursor);
     }
 
     @PostMapping
-    public ResponseEntity<Object> createBooking(@RequestHeader(header) Integer userId,
-                                                @RequestBody @Valid BookItemRequestDto requestDto) {
+    public Mono<ResponseEntity<Object>> createBooking(@RequestHeader(header) Integer userId,
+                                                      @RequestBody @Valid BookItemRequestDto requestDto) {
         log.info("Creating booking {}, userId={}", requestDto, userId);
         return bookingClient.bookItem(userId, requestDto);
     }
 
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Object>> createBookings(@RequestHeader(header) Integer userId,
+                                                       @RequestBody @NotEmpty @Size(max = 100)
+                                                       List<@NotNull @Valid BookItemRequestDto> requestDtos) {
+        log.info("Creating {} bookings, userId={}", requestDtos.size(), userId);
+        return bookingClient.bookItems(userId, requestDtos);
+    }
+
     @PatchMapping("/{bookingId}")
-    public ResponseEntity<Object> updateBooking(@PathVariable Integer bookingId, @RequestHeader(header) Integer userId,
-                                                @RequestParam Boolean approved) {
+    public Mono<ResponseEntity<Object>> updateBooking(@PathVariable Integer bookingId, @RequestHeader(header) Integer userId,
+                                                      @RequestParam Boolean approved) {
         log.info("Updating bookingId {}, userId={}", bookingId, userId);
         return bookingClient.update(bookingId, userId, approved);
     }
 
     @GetMapping("/{bookingId}")
-    public ResponseEntity<Object> getBooking(@RequestHeader(header) Integer userId,
-                                             @PathVariable Integer bookingId) {
+    public Mono<ResponseEntity<Object>> getBooking(@RequestHeader(header) Integer userId,
+                                                   @PathVariable Integer bookingId) {
         log.info("Get booking {}, userId={}", bookingId, userId);
         return bookingClient.getBooking(userId, bookingId);
     }
@@ -0,0 +1,48 @@
+package ru.practicum.shareit.client;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Single keep-alive connection pool shared by all clients of the ShareIt server.
+ */
+@Configuration
+public class ClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider shareItServerConnectionProvider(
+            @Value("${shareit-server.pool.max-connections}") int maxConnections,
+            @Value("${shareit-server.pool.pending-acquire-timeout}") Duration pendingAcquireTimeout,
+            @Value("${shareit-server.pool.pending-acquire-max-count}") int pendingAcquireMaxCount,
+            @Value("${shareit-server.pool.max-idle-time}") Duration maxIdleTime,
+            @Value("${shareit-server.pool.evict-interval}") Duration evictInterval) {
+        return ConnectionProvider.builder("shareit-server")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .maxIdleTime(maxIdleTime)
+                .evictInBackground(evictInterval)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClientCustomizer shareItServerConnector(
+            ConnectionProvider shareItServerConnectionProvider,
+            @Value("${shareit-server.connect-timeout}") Duration connectTimeout,
+            @Value("${shareit-server.read-timeout}") Duration readTimeout) {
+        HttpClient httpClient = HttpClient.create(shareItServerConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout)
+                .keepAlive(true);
+        return builder -> builder.clientConnector(new ReactorClientHttpConnector(httpClient));
+    }
+}
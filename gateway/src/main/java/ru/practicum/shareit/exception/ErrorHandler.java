@@ -1,9 +1,11 @@
 package ru.practicum.shareit.exception;
 
+import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 
 import java.util.Map;
 
@@ -17,4 +19,28 @@ public class ErrorHandler {
                 "error", e.getMessage()
         );
     }
+
+    @ExceptionHandler({ConstraintViolationException.class})
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> handleConstraintViolation(final ConstraintViolationException e) {
+        return Map.of(
+                "error", e.getMessage()
+        );
+    }
+
+    @ExceptionHandler({ServerTimeoutException.class})
+    @ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+    public Map<String, String> handleServerTimeout(final ServerTimeoutException e) {
+        return Map.of(
+                "error", e.getMessage()
+        );
+    }
+
+    @ExceptionHandler({WebClientRequestException.class})
+    @ResponseStatus(HttpStatus.BAD_GATEWAY)
+    public Map<String, String> handleServerUnavailable(final WebClientRequestException e) {
+        return Map.of(
+                "error", String.format("ShareIt server is unavailable: %s", e.getMostSpecificCause())
+        );
+    }
 }
@@ -0,0 +1,10 @@
+package ru.practicum.shareit.exception;
+
+/**
+ * The ShareIt server accepted the request but did not answer within shareit-server.read-timeout.
+ */
+public class ServerTimeoutException extends RuntimeException {
+    public ServerTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -2,50 +2,61 @@ package ru.practicum.shareit.item;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Map;
 
 @Service
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .uriBuilderFactory(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
                         .build()
         );
     }
 
-    public ResponseEntity<Object> add(Integer ownerId, ItemDto itemDto) {
+    public Mono<ResponseEntity<Object>> add(Integer ownerId, ItemDto itemDto) {
         return post("", ownerId, itemDto);
     }
 
-    public ResponseEntity<Object> update(Integer itemId, Integer userId, ItemDto itemDto) {
+    public Mono<ResponseEntity<Object>> update(Integer itemId, Integer userId, ItemDto itemDto) {
         return patch(String.format("/%s", itemId), userId, itemDto);
     }
 
-    public ResponseEntity<Object> get(Integer itemId, Integer userId) {
+    public Mono<ResponseEntity<Object>> get(Integer itemId, Integer userId) {
         return get(String.format("/%s", itemId), userId);
     }
 
-    public ResponseEntity<Object> getAllByUser(Integer ownerId) {
-        return get("/", ownerId);
+    public Mono<ResponseEntity<Object>> getAllByUser(Integer ownerId) {
+        return get("", ownerId);
     }
 
-    public ResponseEntity<Object> getAllByText(String text, Integer ownerId) {
+    public Mono<ResponseEntity<Object>> getAllByText(String text, Integer ownerId) {
         return get(String.format("/search?text=%s", text), ownerId);
     }
 
-    public ResponseEntity<Object> addComment(Integer userId, CommentDto commentDto, Integer itemId) {
+    public Mono<ResponseEntity<Object>> getAvailability(Integer itemId, Integer userId, LocalDateTime from,
+                                                        LocalDateTime to) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "to", to
+        );
+        return get(String.format("/%s/availability?from={from}&to={to}", itemId), Long.valueOf(userId), parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> addComment(Integer userId, CommentDto commentDto, Integer itemId) {
         return post(String.format("/%s/comment", itemId), userId, commentDto);
     }
 }
@@ -2,13 +2,13 @@ package ru.practicum.shareit.request;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 
@@ -17,28 +17,27 @@ public class ItemRequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
     @Autowired
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .uriBuilderFactory(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
                         .build()
         );
     }
 
-    public ResponseEntity<Object> add(Integer userId, ItemRequestDto itemRequestDto) {
+    public Mono<ResponseEntity<Object>> add(Integer userId, ItemRequestDto itemRequestDto) {
         return post("", userId, itemRequestDto);
     }
 
-    public ResponseEntity<Object> get(Integer userId, Integer requestId) {
+    public Mono<ResponseEntity<Object>> get(Integer userId, Integer requestId) {
         return get(String.format("/%s", requestId), userId);
     }
 
-    public ResponseEntity<Object> getByUserId(Integer userId) {
+    public Mono<ResponseEntity<Object>> getByUserId(Integer userId) {
         return get("", userId);
     }
 
-    public ResponseEntity<Object> getAll(Integer userId, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> getAll(Integer userId, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size);
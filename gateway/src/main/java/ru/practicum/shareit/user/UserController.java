@@ -4,9 +4,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.user.dto.UserDto;
 
-import javax.validation.Valid;
+import jakarta.validation.Valid;
 
 @RestController
 @RequiredArgsConstructor
@@ -15,27 +16,27 @@ public class UserController {
     private final UserClient userClient;
 
     @PostMapping
-    public ResponseEntity<Object> add(@RequestBody @Validated UserDto userDto) {
+    public Mono<ResponseEntity<Object>> add(@RequestBody @Validated UserDto userDto) {
         return userClient.createUser(userDto);
     }
 
     @PatchMapping("/{userId}")
-    public ResponseEntity<Object> update(@Valid @PathVariable("userId") Integer userId, @RequestBody UserDto userDto) {
+    public Mono<ResponseEntity<Object>> update(@Valid @PathVariable("userId") Integer userId, @RequestBody UserDto userDto) {
         return userClient.updateUser(userDto, userId);
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<Object> get(@PathVariable("userId") Integer userId) {
+    public Mono<ResponseEntity<Object>> get(@PathVariable("userId") Integer userId) {
         return userClient.getUserById(userId);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAll() {
+    public Mono<ResponseEntity<Object>> getAll() {
         return userClient.getAll();
     }
 
     @DeleteMapping("/{userId}")
-    public ResponseEntity<Object> delete(@PathVariable("userId") Integer userId) {
+    public Mono<ResponseEntity<Object>> delete(@PathVariable("userId") Integer userId) {
         return userClient.deleteUserById(userId);
     }
 }
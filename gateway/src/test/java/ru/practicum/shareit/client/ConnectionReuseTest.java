@@ -0,0 +1,58 @@
+package ru.practicum.shareit.client;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
+import ru.practicum.shareit.booking.BookingClient;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Requests through the shared pool reuse keep-alive connections: the stub sees one new connection per
+ * concurrent caller, not one per request. A request with sequence number 0 is the first on its connection.
+ * The pool is capped at the concurrency, because a caller can start its next request just before the
+ * previous connection is released and would otherwise open one more.
+ */
+@SpringBootTest(properties = "shareit-server.pool.max-connections=" + ConnectionReuseTest.CONCURRENCY)
+class ConnectionReuseTest extends StubServerTest {
+    private static final int REQUESTS = 200;
+    static final int CONCURRENCY = 8;
+
+    @Autowired
+    private BookingClient bookingClient;
+
+    @Test
+    void requestsShareFewConnections() throws InterruptedException {
+        for (int i = 0; i < REQUESTS; i++) {
+            SERVER.enqueue(new MockResponse()
+                    .setResponseCode(200)
+                    .setHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                    .setBody("{\"id\":7}"));
+        }
+
+        List<HttpStatusCode> statuses = Flux.range(0, REQUESTS)
+                .flatMap(i -> bookingClient.getBooking(1, 7), CONCURRENCY)
+                .map(ResponseEntity::getStatusCode)
+                .collectList()
+                .block();
+
+        assertThat(statuses).hasSize(REQUESTS).allMatch(HttpStatusCode::is2xxSuccessful);
+        int connections = 0;
+        for (int i = 0; i < REQUESTS; i++) {
+            RecordedRequest request = SERVER.takeRequest(5, TimeUnit.SECONDS);
+            if (request.getSequenceNumber() == 0) {
+                connections++;
+            }
+        }
+        assertThat(connections).isLessThanOrEqualTo(CONCURRENCY);
+    }
+}
@@ -0,0 +1,47 @@
+package ru.practicum.shareit.client;
+
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
+import ru.practicum.shareit.booking.BookingClient;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Callers beyond the pool size wait for a connection instead of being turned away. With two connections
+ * reactor-netty's default would queue only four callers.
+ */
+@SpringBootTest(properties = "shareit-server.pool.max-connections=2")
+class PendingAcquireTest extends StubServerTest {
+    private static final int CONCURRENCY = 50;
+
+    @Autowired
+    private BookingClient bookingClient;
+
+    @Test
+    void callersBeyondThePoolWaitForAConnection() {
+        for (int i = 0; i < CONCURRENCY; i++) {
+            SERVER.enqueue(new MockResponse()
+                    .setResponseCode(200)
+                    .setHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                    .setBody("{\"id\":7}")
+                    .setHeadersDelay(20, TimeUnit.MILLISECONDS));
+        }
+
+        List<HttpStatusCode> statuses = Flux.range(0, CONCURRENCY)
+                .flatMap(i -> bookingClient.getBooking(1, 7), CONCURRENCY)
+                .map(ResponseEntity::getStatusCode)
+                .collectList()
+                .block();
+
+        assertThat(statuses).hasSize(CONCURRENCY).allMatch(HttpStatusCode::is2xxSuccessful);
+    }
+}
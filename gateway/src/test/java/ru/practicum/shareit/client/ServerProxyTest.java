@@ -0,0 +1,93 @@
+package ru.practicum.shareit.client;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Gateway requests against a stub ShareIt server: server responses, errors included, are passed through
+ * unchanged.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ServerProxyTest extends StubServerTest {
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Test
+    void successfulResponseIsPassedThrough() throws InterruptedException {
+        String body = "[{\"id\":1,\"status\":\"APPROVED\"}]";
+        SERVER.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                .setHeader("X-Next-Cursor", "abc")
+                .setBody(body));
+
+        ResponseEntity<String> response = exchange("/bookings?state=ALL&size=5");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(body);
+        assertThat(response.getHeaders().getFirst("X-Next-Cursor")).isEqualTo("abc");
+        RecordedRequest request = SERVER.takeRequest(5, TimeUnit.SECONDS);
+        assertThat(request.getPath()).isEqualTo("/bookings?state=ALL&from=0&size=5");
+        assertThat(request.getHeader("X-Sharer-User-Id")).isEqualTo("1");
+    }
+
+    @Test
+    void clientErrorIsPassedThrough() {
+        String body = "{\"error\":\"Booking with id = 7 not found\"}";
+        SERVER.enqueue(new MockResponse()
+                .setResponseCode(404)
+                .setHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                .setBody(body));
+
+        ResponseEntity<String> response = exchange("/bookings/7");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody()).isEqualTo(body);
+    }
+
+    @Test
+    void serverErrorIsPassedThrough() {
+        SERVER.enqueue(new MockResponse()
+                .setResponseCode(500)
+                .setHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                .setBody("{\"error\":\"boom\"}"));
+
+        ResponseEntity<String> response = exchange("/bookings/7");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(response.getBody()).isEqualTo("{\"error\":\"boom\"}");
+    }
+
+    @Test
+    void batchWithEmptyEntryIsRejectedByGateway() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Sharer-User-Id", "1");
+        headers.set(HttpHeaders.CONTENT_TYPE, "application/json");
+        int forwarded = SERVER.getRequestCount();
+
+        ResponseEntity<String> response = rest.exchange("/bookings/batch", HttpMethod.POST,
+                new HttpEntity<>("[null]", headers), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(SERVER.getRequestCount()).isEqualTo(forwarded);
+    }
+
+    private ResponseEntity<String> exchange(String path) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Sharer-User-Id", "1");
+        return rest.exchange(path, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+}
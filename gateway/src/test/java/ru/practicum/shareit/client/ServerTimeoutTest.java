@@ -0,0 +1,48 @@
+package ru.practicum.shareit.client;
+
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A ShareIt server that accepts the request but does not answer within shareit-server.read-timeout
+ * is reported as 504 instead of holding the gateway request open.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "shareit-server.read-timeout=1s")
+class ServerTimeoutTest extends StubServerTest {
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Test
+    void slowResponseIsGatewayTimeoutAfterReadTimeout() {
+        SERVER.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                .setBody("{\"id\":7}")
+                .setHeadersDelay(5, TimeUnit.SECONDS));
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Sharer-User-Id", "1");
+
+        long started = System.nanoTime();
+        ResponseEntity<String> response = rest.exchange("/bookings/7", HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        assertThat(response.getBody()).contains("ShareIt server did not respond in time");
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(4));
+    }
+}
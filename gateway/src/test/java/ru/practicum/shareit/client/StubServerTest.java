@@ -0,0 +1,40 @@
+package ru.practicum.shareit.client;
+
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Points the gateway at a stub ShareIt server. The stub is started once per test JVM, like the Spring
+ * contexts cached with its URL, and is stopped together with the JVM.
+ */
+abstract class StubServerTest {
+    protected static final MockWebServer SERVER = start();
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://" + SERVER.getHostName() + ":" + SERVER.getPort());
+    }
+
+    @BeforeEach
+    void forgetRecordedRequests() throws InterruptedException {
+        while (SERVER.takeRequest(0, TimeUnit.MILLISECONDS) != null) {
+            // requests of earlier tests are not asserted here
+        }
+    }
+
+    private static MockWebServer start() {
+        MockWebServer server = new MockWebServer();
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return server;
+    }
+}
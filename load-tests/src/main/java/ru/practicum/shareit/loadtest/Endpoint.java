@@ -0,0 +1,29 @@
+package ru.practicum.shareit.loadtest;
+
+/**
+ * Requests of the replayed Postman flow, each reported and checked separately.
+ */
+public enum Endpoint {
+    CREATE_USER("create-user", "POST /users"),
+    CREATE_ITEM("create-item", "POST /items"),
+    CREATE_BOOKING("create-booking", "POST /bookings"),
+    APPROVE_BOOKING("approve-booking", "PATCH /bookings/{bookingId}"),
+    GET_ITEM("get-item", "GET /items/{itemId}"),
+    SEARCH_ITEMS("search-items", "GET /items/search");
+
+    private final String key;
+    private final String label;
+
+    Endpoint(String key, String label) {
+        this.key = key;
+        this.label = label;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,47 @@
+package ru.practicum.shareit.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies and errors of one endpoint. Every sample is kept so percentiles are exact.
+ */
+public class EndpointStats {
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+
+    public synchronized void record(long nanos, boolean isSuccess) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        if (!isSuccess) {
+            errors++;
+        }
+    }
+
+    public synchronized int getCount() {
+        return count;
+    }
+
+    public synchronized int getErrors() {
+        return errors;
+    }
+
+    public synchronized double getErrorRate() {
+        return count == 0 ? 0 : (double) errors / count;
+    }
+
+    /**
+     * Nearest-rank percentile in milliseconds.
+     */
+    public synchronized double percentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return sorted[Math.max(rank - 1, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,143 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replays the Postman flow from a fixed number of concurrent workers against a running gateway, prints
+ * throughput and latency percentiles per endpoint and fails when a configured threshold is exceeded.
+ * Each worker is a virtual thread, so thousands of concurrent clients cost no more than a few platform threads.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(config.getRequestTimeoutSeconds()))
+                .build();
+
+        System.out.printf("Warming up %s with %d workers for %ds%n", config.getBaseUrl(),
+                config.getConcurrency(), config.getWarmupSeconds());
+        run(config, client, config.getWarmupSeconds());
+
+        System.out.printf("Measuring for %ds%n", config.getDurationSeconds());
+        long started = System.nanoTime();
+        Map<Endpoint, EndpointStats> stats = run(config, client, config.getDurationSeconds());
+        // workers finish the iteration they are in, which at high concurrency takes well past the deadline
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        List<String> violations = report(config, stats, seconds);
+        reportPeakThreads(config, client);
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("Load test thresholds exceeded:\n  " + String.join("\n  ", violations));
+        }
+    }
+
+    private static Map<Endpoint, EndpointStats> run(LoadTestConfig config, HttpClient client, int seconds)
+            throws InterruptedException {
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+        ShareItScenario scenario = new ShareItScenario(client, config.getBaseUrl(),
+                Duration.ofSeconds(config.getRequestTimeoutSeconds()), stats);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        AtomicInteger failedIterations = new AtomicInteger();
+        ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < config.getConcurrency(); i++) {
+            int worker = i;
+            workers.execute(() -> {
+                for (long iteration = 0; System.nanoTime() < deadline; iteration++) {
+                    try {
+                        scenario.run(worker, iteration);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        if (failedIterations.getAndIncrement() < 5) {
+                            System.err.println(e.getMessage());
+                        }
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(seconds + config.getRequestTimeoutSeconds() * 10L, TimeUnit.SECONDS);
+        return stats;
+    }
+
+    private static List<String> report(LoadTestConfig config, Map<Endpoint, EndpointStats> stats, double seconds) {
+        List<String> violations = new ArrayList<>();
+        int total = 0;
+        int errors = 0;
+        System.out.printf("%-28s %10s %8s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms");
+        for (Endpoint endpoint : Endpoint.values()) {
+            EndpointStats s = stats.get(endpoint);
+            total += s.getCount();
+            errors += s.getErrors();
+            System.out.printf("%-28s %10d %8d %10.1f %10.1f %10.1f %10.1f%n", endpoint.getLabel(), s.getCount(),
+                    s.getErrors(), s.getCount() / seconds,
+                    s.percentile(50), s.percentile(95), s.percentile(99));
+            checkLatency(violations, endpoint, "p95", s.percentile(95), config.getLatencyThreshold(endpoint, "p95"));
+            checkLatency(violations, endpoint, "p99", s.percentile(99), config.getLatencyThreshold(endpoint, "p99"));
+        }
+        double throughput = total / seconds;
+        double errorRate = total == 0 ? 1 : (double) errors / total;
+        System.out.printf("%-28s %10d %8d %10.1f%n", "total", total, errors, throughput);
+        System.out.printf("Measured over %.1fs%n", seconds);
+
+        if (throughput < config.getMinThroughput()) {
+            violations.add(String.format("throughput %.1f req/s is below %.1f", throughput,
+                    config.getMinThroughput()));
+        }
+        if (errorRate > config.getMaxErrorRate()) {
+            violations.add(String.format("error rate %.4f is above %.4f", errorRate, config.getMaxErrorRate()));
+        }
+        return violations;
+    }
+
+    /**
+     * Peak live threads of each service since it started, i.e. how many threads the run took.
+     */
+    private static void reportPeakThreads(LoadTestConfig config, HttpClient client) throws InterruptedException {
+        ObjectMapper mapper = new ObjectMapper();
+        for (String url : config.getActuatorUrls()) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url + "/actuator/metrics/jvm.threads.peak"))
+                    .timeout(Duration.ofSeconds(config.getRequestTimeoutSeconds()))
+                    .GET()
+                    .build();
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                JsonNode value = mapper.readTree(response.body()).path("measurements").path(0).path("value");
+                System.out.printf("peak threads of %s: %s%n", url, value.isMissingNode() ? "n/a" : value.asInt());
+            } catch (IOException e) {
+                System.out.printf("peak threads of %s: n/a (%s)%n", url, e);
+            }
+        }
+    }
+
+    private static void checkLatency(List<String> violations, Endpoint endpoint, String percentile,
+                                     double actual, Double threshold) {
+        if (threshold != null && actual > threshold) {
+            violations.add(String.format("%s %s %.1f ms is above %.1f ms", endpoint.getLabel(), percentile,
+                    actual, threshold));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Settings from loadtest.properties, overridden by loadtest-{profile}.properties when loadtest.profile is set
+ * and then by system properties of the same name.
+ */
+public class LoadTestConfig {
+    private static final String PREFIX = "loadtest.";
+
+    private final Properties properties = new Properties();
+
+    public static LoadTestConfig load() {
+        LoadTestConfig config = new LoadTestConfig();
+        config.loadResource("/loadtest.properties", false);
+        String profile = System.getProperty(PREFIX + "profile");
+        if (profile != null && !profile.isBlank()) {
+            config.loadResource("/loadtest-" + profile + ".properties", true);
+        }
+        System.getProperties().stringPropertyNames()
+                .stream()
+                .filter(name -> name.startsWith(PREFIX))
+                .forEach(name -> config.properties.setProperty(name, System.getProperty(name)));
+        return config;
+    }
+
+    public String getBaseUrl() {
+        return get("base-url");
+    }
+
+    public int getConcurrency() {
+        return Integer.parseInt(get("concurrency"));
+    }
+
+    public int getWarmupSeconds() {
+        return Integer.parseInt(get("warmup-seconds"));
+    }
+
+    public int getDurationSeconds() {
+        return Integer.parseInt(get("duration-seconds"));
+    }
+
+    public int getRequestTimeoutSeconds() {
+        return Integer.parseInt(get("request-timeout-seconds"));
+    }
+
+    /**
+     * Actuator base URLs whose peak thread count is reported after the run, e.g. the gateway and the server.
+     */
+    public List<String> getActuatorUrls() {
+        String value = properties.getProperty(PREFIX + "actuator-urls", "");
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+    }
+
+    public double getMaxErrorRate() {
+        return Double.parseDouble(get("threshold.max-error-rate"));
+    }
+
+    public double getMinThroughput() {
+        return Double.parseDouble(get("threshold.min-throughput"));
+    }
+
+    /**
+     * Upper bound in milliseconds for the given percentile of an endpoint, or null when it is not checked.
+     */
+    public Double getLatencyThreshold(Endpoint endpoint, String percentile) {
+        String value = properties.getProperty(PREFIX + "threshold." + endpoint.getKey() + "." + percentile);
+        return value == null || value.isBlank() ? null : Double.valueOf(value);
+    }
+
+    private void loadResource(String name, boolean isRequired) {
+        try (InputStream in = LoadTestConfig.class.getResourceAsStream(name)) {
+            if (in != null) {
+                properties.load(in);
+            } else if (isRequired) {
+                throw new IllegalStateException(String.format("Load test profile %s is not on the classpath", name));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String get(String name) {
+        String value = properties.getProperty(PREFIX + name);
+        if (value == null) {
+            throw new IllegalStateException(String.format("Property %s%s is not set", PREFIX, name));
+        }
+        return value;
+    }
+}
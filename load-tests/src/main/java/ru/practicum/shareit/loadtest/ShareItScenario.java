@@ -0,0 +1,103 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * One pass of the Postman happy path: two users, an item, a booking that the owner approves,
+ * then an item view and a search by the booker.
+ */
+public class ShareItScenario {
+    private static final String HEADER = "X-Sharer-User-Id";
+    private static final String SEARCH_TEXT = "дРелЬ";
+
+    private final HttpClient client;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final String baseUrl;
+    private final Duration timeout;
+    private final Map<Endpoint, EndpointStats> stats;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    public ShareItScenario(HttpClient client, String baseUrl, Duration timeout, Map<Endpoint, EndpointStats> stats) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.stats = stats;
+    }
+
+    public void run(int worker, long iteration) throws IOException, InterruptedException {
+        String suffix = runId + "-" + worker + "-" + iteration;
+        int ownerId = id(send(Endpoint.CREATE_USER, post("/users", null,
+                Map.of("name", "Owner " + suffix, "email", "owner-" + suffix + "@load.test"))));
+        int bookerId = id(send(Endpoint.CREATE_USER, post("/users", null,
+                Map.of("name", "Booker " + suffix, "email", "booker-" + suffix + "@load.test"))));
+        int itemId = id(send(Endpoint.CREATE_ITEM, post("/items", ownerId,
+                Map.of("name", "Дрель " + suffix, "description", "Простая дрель", "available", true))));
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        int bookingId = id(send(Endpoint.CREATE_BOOKING, post("/bookings", bookerId,
+                Map.of("itemId", itemId,
+                        "start", DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(start),
+                        "end", DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(start.plusDays(1))))));
+        send(Endpoint.APPROVE_BOOKING, request("/bookings/" + bookingId + "?approved=true", ownerId)
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        send(Endpoint.GET_ITEM, request("/items/" + itemId, bookerId).GET().build());
+        send(Endpoint.SEARCH_ITEMS, request("/items/search?text="
+                + URLEncoder.encode(SEARCH_TEXT, StandardCharsets.UTF_8), bookerId).GET().build());
+    }
+
+    private HttpResponse<String> send(Endpoint endpoint, HttpRequest request)
+            throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            stats.get(endpoint).record(System.nanoTime() - started, false);
+            throw e;
+        }
+        boolean isSuccess = response.statusCode() / 100 == 2;
+        stats.get(endpoint).record(System.nanoTime() - started, isSuccess);
+        if (!isSuccess) {
+            throw new IOException(String.format("%s answered %d: %s", endpoint.getLabel(), response.statusCode(),
+                    response.body()));
+        }
+        return response;
+    }
+
+    private HttpRequest post(String path, Integer userId, Map<String, Object> body) throws IOException {
+        return request(path, userId)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, Integer userId) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(timeout)
+                .header("Accept", "application/json");
+        if (userId != null) {
+            builder.header(HEADER, userId.toString());
+        }
+        return builder;
+    }
+
+    private int id(HttpResponse<String> response) throws IOException {
+        JsonNode node = mapper.readTree(response.body());
+        return node.get("id").asInt();
+    }
+}
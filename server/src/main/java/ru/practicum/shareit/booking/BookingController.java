@@ -2,13 +2,16 @@ package ru.practicum.shareit.booking;
 
 import lombok.AllArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingDtoResponse;
 import ru.practicum.shareit.booking.service.BookingService;
 
-import javax.validation.constraints.Positive;
-import javax.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import java.util.List;
 
 /**
@@ -22,12 +25,19 @@ public class BookingController {
     private BookingService bookingService;
     private final String header = "X-Sharer-User-Id";
     private final String path = "/{bookingId}";
+    private final String nextCursorHeader = "X-Next-Cursor";
 
     @PostMapping
     public BookingDto add(@RequestBody BookingDto bookingDto, @RequestHeader(header) Integer userId) {
         return bookingService.add(bookingDto, userId);
     }
 
+    @PostMapping("/batch")
+    public List<BookingBatchResultDto> addAll(@RequestBody List<BookingDto> bookingDtos,
+                                              @RequestHeader(header) Integer userId) {
+        return bookingService.addAll(bookingDtos, userId);
+    }
+
     @PatchMapping(path)
     public BookingDto update(@PathVariable Integer bookingId, @RequestHeader(header) Integer userId,
                              @RequestParam Boolean approved) {
@@ -40,22 +50,38 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingDtoResponse> getAllByBooker(@RequestParam(required = false, defaultValue = "ALL") String state,
-                                                   @RequestHeader(header) Integer booker,
-                                                   @RequestParam(name = "from", defaultValue = "0")
-                                                   @PositiveOrZero Integer from,
-                                                   @RequestParam(name = "size", defaultValue = "10")
-                                                   @Positive Integer size) {
-        return bookingService.getAllByBooker(state, booker, from, size);
+    public ResponseEntity<List<BookingDtoResponse>> getAllByBooker(
+            @RequestParam(required = false, defaultValue = "ALL") String state,
+            @RequestHeader(header) Integer booker,
+            @RequestParam(name = "from", defaultValue = "0") @PositiveOrZero Integer from,
+            @RequestParam(name = "size", defaultValue = "10") @Positive Integer size,
+            @RequestParam(name = "cursor", required = false) String cursor) {
+        if (cursor == null) {
+            return ResponseEntity.ok(bookingService.getAllByBooker(state, booker, from, size));
+        }
+        return withNextCursor(bookingService.getAllByBookerAfter(state, booker, cursor, size), size);
     }
 
     @GetMapping("/owner")
-    public List<BookingDtoResponse> getAllByOwner(@RequestParam(required = false, defaultValue = "ALL") String state,
-                                                  @RequestHeader(header) Integer owner,
-                                                  @RequestParam(name = "from", defaultValue = "0")
-                                                  @PositiveOrZero Integer from,
-                                                  @RequestParam(name = "size", defaultValue = "10")
-                                                  @Positive Integer size) {
-        return bookingService.getAllByOwner(state, owner, from, size);
+    public ResponseEntity<List<BookingDtoResponse>> getAllByOwner(
+            @RequestParam(required = false, defaultValue = "ALL") String state,
+            @RequestHeader(header) Integer owner,
+            @RequestParam(name = "from", defaultValue = "0") @PositiveOrZero Integer from,
+            @RequestParam(name = "size", defaultValue = "10") @Positive Integer size,
+            @RequestParam(name = "cursor", required = false) String cursor) {
+        if (cursor == null) {
+            return ResponseEntity.ok(bookingService.getAllByOwner(state, owner, from, size));
+        }
+        return withNextCursor(bookingService.getAllByOwnerAfter(state, owner, cursor, size), size);
+    }
+
+    private ResponseEntity<List<BookingDtoResponse>> withNextCursor(List<BookingDtoResponse> bookings, Integer size) {
+        if (bookings.size() < size) {
+            return ResponseEntity.ok(bookings);
+        }
+        BookingCursor next = BookingCursor.after(bookings.get(bookings.size() - 1));
+        return ResponseEntity.ok()
+                .header(nextCursorHeader, next.encode())
+                .body(bookings);
     }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BookingBatchResultDto {
+    Integer index;
+    BookingDto booking;
+    String error;
+
+    public static BookingBatchResultDto success(Integer index, BookingDto booking) {
+        return new BookingBatchResultDto(index, booking, null);
+    }
+
+    public static BookingBatchResultDto failure(Integer index, String error) {
+        return new BookingBatchResultDto(index, null, error);
+    }
+}
@@ -41,6 +41,6 @@ public class BookingDto {
                 dto.getStart(),
                 dto.getEnd(),
                 ItemDto.fromItemDto(dto.getItem(), dto.getBooker().getId()),
-                UserDto.fromUserDto(dto.getBooker()), dto.getStatus());
+                UserDto.fromUserDto(dto.getBooker()), dto.getStatus(), null);
     }
 }
\ No newline at end of file
@@ -2,35 +2,59 @@ package ru.practicum.shareit.booking.dto;
 
 
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.experimental.FieldDefaults;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
-import ru.practicum.shareit.item.model.Item;
-import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
 
+/**
+ * Booking list entry. Repository queries build it directly via a constructor expression,
+ * so only the columns below are read and no item or booker entity is loaded.
+ */
 @Data
 @Builder
+@AllArgsConstructor
 @FieldDefaults(level = AccessLevel.PROTECTED)
 public class BookingDtoResponse {
     Integer id;
     LocalDateTime start;
     LocalDateTime end;
-    Item item;
-    User booker;
+    ItemShort item;
+    BookerShort booker;
     Status status;
 
+    public BookingDtoResponse(Integer id, LocalDateTime start, LocalDateTime end, Status status,
+                              Integer itemId, String itemName, Integer bookerId) {
+        this(id, start, end, new ItemShort(itemId, itemName), new BookerShort(bookerId), status);
+    }
+
     public static BookingDtoResponse toBookingDtoResponse(Booking booking) {
         return BookingDtoResponse.builder()
                 .id(booking.getId())
                 .start(booking.getStart())
                 .end(booking.getEnd())
-                .booker(booking.getBooker())
+                .booker(new BookerShort(booking.getBooker().getId()))
                 .status(booking.getStatus())
-                .item(booking.getItem())
+                .item(new ItemShort(booking.getItem().getId(), booking.getItem().getName()))
                 .build();
     }
+
+    @Data
+    @AllArgsConstructor
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static class ItemShort {
+        Integer id;
+        String name;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static class BookerShort {
+        Integer id;
+    }
 }
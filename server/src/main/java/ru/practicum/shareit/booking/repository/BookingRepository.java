@@ -1,40 +1,157 @@
 package ru.practicum.shareit.booking.repository;
 
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.booking.dto.BookingDtoResponse;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface BookingRepository extends JpaRepository<Booking, Integer> {
-    List<Booking> findByBookerIdOrderByStartDesc(Integer bookerId, PageRequest request);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Optional<Booking> findWithItemAndBookerById(Integer id);
 
-    List<Booking> findByBookerIdAndStatusOrderByStartDesc(Integer bookerId, Status status, PageRequest request);
+    String SELECT_RESPONSE = "select new ru.practicum.shareit.booking.dto.BookingDtoResponse(" +
+            "b.id, b.start, b.end, b.status, i.id, i.name, b.booker.id) " +
+            "from Booking b join b.item i ";
 
-    List<Booking> findAllByBookerIdAndStartBeforeAndEndAfter(Integer bookerId, LocalDateTime start,
-                                                             LocalDateTime end, PageRequest request);
+    @Query(SELECT_RESPONSE +
+            "where b.booker.id = :bookerId " +
+            "order by b.start desc")
+    List<BookingDtoResponse> findByBookerIdOrderByStartDesc(@Param("bookerId") Integer bookerId,
+                                                            PageRequest request);
 
-    List<Booking> findByBookerIdAndStartIsAfterOrderByStartDesc(Integer bookerId, LocalDateTime start,
-                                                                PageRequest request);
+    @Query(SELECT_RESPONSE +
+            "where b.booker.id = :bookerId and b.status = :status " +
+            "order by b.start desc")
+    List<BookingDtoResponse> findByBookerIdAndStatusOrderByStartDesc(@Param("bookerId") Integer bookerId,
+                                                                     @Param("status") Status status,
+                                                                     PageRequest request);
 
-    List<Booking> findByBookerIdAndEndIsBeforeOrderByStartDesc(Integer bookerId, LocalDateTime end,
-                                                               PageRequest request);
+    @Query(SELECT_RESPONSE +
+            "where b.booker.id = :bookerId and b.start < :startTime and b.end > :endTime")
+    List<BookingDtoResponse> findAllByBookerIdAndStartBeforeAndEndAfter(@Param("bookerId") Integer bookerId,
+                                                                        @Param("startTime") LocalDateTime start,
+                                                                        @Param("endTime") LocalDateTime end,
+                                                                        PageRequest request);
+
+    @Query(SELECT_RESPONSE +
+            "where b.booker.id = :bookerId and b.start > :startTime " +
+            "order by b.start desc")
+    List<BookingDtoResponse> findByBookerIdAndStartIsAfterOrderByStartDesc(@Param("bookerId") Integer bookerId,
+                                                                           @Param("startTime") LocalDateTime start,
+                                                                           PageRequest request);
 
-    List<Booking> findByItemOwnerIdOrderByStartDesc(Integer owner, PageRequest request);
+    @Query(SELECT_RESPONSE +
+            "where b.booker.id = :bookerId and b.end < :endTime " +
+            "order by b.start desc")
+    List<BookingDtoResponse> findByBookerIdAndEndIsBeforeOrderByStartDesc(@Param("bookerId") Integer bookerId,
+                                                                          @Param("endTime") LocalDateTime end,
+                                                                          PageRequest request);
+
+    @Query(SELECT_RESPONSE +
+            "where i.ownerId = :ownerId " +
+            "order by b.start desc")
+    List<BookingDtoResponse> findByItemOwnerIdOrderByStartDesc(@Param("ownerId") Integer owner,
+                                                               PageRequest request);
 
-    List<Booking> findByItemOwnerIdAndStartIsAfterOrderByStartDesc(Integer owner, LocalDateTime start, PageRequest request);
+    @Query(SELECT_RESPONSE +
+            "where i.ownerId = :ownerId and b.start > :startTime " +
+            "order by b.start desc")
+    List<BookingDtoResponse> findByItemOwnerIdAndStartIsAfterOrderByStartDesc(@Param("ownerId") Integer owner,
+                                                                              @Param("startTime") LocalDateTime start,
+                                                                              PageRequest request);
 
-    List<Booking> findByItemOwnerIdAndStatusOrderByStartDesc(Integer owner, Status bookingStatus, PageRequest request);
+    @Query(SELECT_RESPONSE +
+            "where i.ownerId = :ownerId and b.status = :status " +
+            "order by b.start desc")
+    List<BookingDtoResponse> findByItemOwnerIdAndStatusOrderByStartDesc(@Param("ownerId") Integer owner,
+                                                                        @Param("status") Status bookingStatus,
+                                                                        PageRequest request);
 
-    List<Booking> findAllByItemOwnerIdAndStartBeforeAndEndAfter(Integer owner, LocalDateTime start, LocalDateTime end, PageRequest pageRequest);
+    @Query(SELECT_RESPONSE +
+            "where i.ownerId = :ownerId and b.start < :startTime and b.end > :endTime")
+    List<BookingDtoResponse> findAllByItemOwnerIdAndStartBeforeAndEndAfter(@Param("ownerId") Integer owner,
+                                                                           @Param("startTime") LocalDateTime start,
+                                                                           @Param("endTime") LocalDateTime end,
+                                                                           PageRequest pageRequest);
 
-    List<Booking> findByItemOwnerIdAndEndBeforeOrderByStartDesc(Integer ownerId, LocalDateTime end, PageRequest request);
+    @Query(SELECT_RESPONSE +
+            "where i.ownerId = :ownerId and b.end < :endTime " +
+            "order by b.start desc")
+    List<BookingDtoResponse> findByItemOwnerIdAndEndBeforeOrderByStartDesc(@Param("ownerId") Integer ownerId,
+                                                                           @Param("endTime") LocalDateTime end,
+                                                                           PageRequest request);
 
     List<Booking> findByBookerIdAndItemIdAndEndBefore(Integer bookerId, Integer itemId, LocalDateTime time);
 
+    @Query(SELECT_RESPONSE +
+            "where b.booker.id = :userId and b.status in :statuses " +
+            "and b.start > :startFrom and b.start < :startTo and b.end > :endFrom and b.end < :endTo " +
+            "and (b.start < :cursorStart or (b.start = :cursorStart and b.id < :cursorId)) " +
+            "order by b.start desc, b.id desc")
+    List<BookingDtoResponse> findByBookerIdAfterCursor(@Param("userId") Integer bookerId,
+                                                       @Param("statuses") Collection<Status> statuses,
+                                                       @Param("startFrom") LocalDateTime startFrom,
+                                                       @Param("startTo") LocalDateTime startTo,
+                                                       @Param("endFrom") LocalDateTime endFrom,
+                                                       @Param("endTo") LocalDateTime endTo,
+                                                       @Param("cursorStart") LocalDateTime cursorStart,
+                                                       @Param("cursorId") Integer cursorId,
+                                                       Pageable pageable);
+
+    @Query(SELECT_RESPONSE +
+            "where i.ownerId = :userId and b.status in :statuses " +
+            "and b.start > :startFrom and b.start < :startTo and b.end > :endFrom and b.end < :endTo " +
+            "and (b.start < :cursorStart or (b.start = :cursorStart and b.id < :cursorId)) " +
+            "order by b.start desc, b.id desc")
+    List<BookingDtoResponse> findByItemOwnerIdAfterCursor(@Param("userId") Integer ownerId,
+                                                          @Param("statuses") Collection<Status> statuses,
+                                                          @Param("startFrom") LocalDateTime startFrom,
+                                                          @Param("startTo") LocalDateTime startTo,
+                                                          @Param("endFrom") LocalDateTime endFrom,
+                                                          @Param("endTo") LocalDateTime endTo,
+                                                          @Param("cursorStart") LocalDateTime cursorStart,
+                                                          @Param("cursorId") Integer cursorId,
+                                                          Pageable pageable);
+
     List<Booking> findByItemOwnerId(Integer ownerId);
 
+    List<Booking> findByItemIdInAndStatusAndStartBeforeAndEndAfter(Collection<Integer> itemIds, Status status,
+                                                                   LocalDateTime end, LocalDateTime start);
+
+    boolean existsByItemIdAndStatusAndStartBeforeAndEndAfter(Integer itemId, Status status, LocalDateTime end,
+                                                             LocalDateTime start);
+
     List<Booking> findByItemId(Integer id);
+
+    List<Booking> findByItemIdAndStatus(Integer itemId, Status status);
+
+    @Query(value = "select b.* from bookings b where b.id in (" +
+            "select distinct on (l.item_id) l.id from bookings l " +
+            "where l.item_id in :itemIds and l.status = 'APPROVED' and l.start_date < :time " +
+            "order by l.item_id, l.id desc)", nativeQuery = true)
+    List<Booking> findLastApprovedByItemIdIn(@Param("itemIds") Collection<Integer> itemIds,
+                                             @Param("time") LocalDateTime time);
+
+    @Query(value = "select b.* from bookings b where b.id in (" +
+            "select distinct on (n.item_id) n.id from bookings n " +
+            "where n.item_id in :itemIds and n.status = 'APPROVED' and n.start_date > :time " +
+            "order by n.item_id, n.start_date)", nativeQuery = true)
+    List<Booking> findNextApprovedByItemIdIn(@Param("itemIds") Collection<Integer> itemIds,
+                                             @Param("time") LocalDateTime time);
+
+    Optional<Booking> findFirstByItemIdAndStatusAndStartBeforeOrderByIdDesc(Integer itemId, Status status,
+                                                                           LocalDateTime time);
+
+    Optional<Booking> findFirstByItemIdAndStatusAndStartAfterOrderByStartAsc(Integer itemId, Status status,
+                                                                            LocalDateTime time);
 }
\ No newline at end of file
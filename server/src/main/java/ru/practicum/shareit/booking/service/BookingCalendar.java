@@ -0,0 +1,122 @@
+package ru.practicum.shareit.booking.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.dto.AvailabilityInterval;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory index of approved bookings per item, keyed by start date.
+ * Approved bookings of an item never overlap, so a sorted map is enough to answer
+ * range queries in O(log n + k). Calendars are built lazily from the primary database and
+ * patched after each committed booking change. They are still rebuilt every few minutes,
+ * which bounds how stale a calendar can get when another instance approves a booking.
+ */
+@Component
+public class BookingCalendar {
+    private static final Duration REBUILD_AFTER = Duration.ofMinutes(5);
+    private final BookingRepository bookingRepository;
+    private final TransactionTemplate primaryReadTemplate;
+    private final Cache<Integer, NavigableMap<LocalDateTime, AvailabilityInterval>> calendars = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfter(new Expiry<Integer, NavigableMap<LocalDateTime, AvailabilityInterval>>() {
+                @Override
+                public long expireAfterCreate(Integer itemId, NavigableMap<LocalDateTime, AvailabilityInterval> calendar,
+                                              long currentTime) {
+                    return REBUILD_AFTER.toNanos();
+                }
+
+                // local patches must not postpone the rebuild that picks up other instances' approvals
+                @Override
+                public long expireAfterUpdate(Integer itemId, NavigableMap<LocalDateTime, AvailabilityInterval> calendar,
+                                              long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(Integer itemId, NavigableMap<LocalDateTime, AvailabilityInterval> calendar,
+                                            long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    public BookingCalendar(BookingRepository bookingRepository, PlatformTransactionManager transactionManager) {
+        this.bookingRepository = bookingRepository;
+        // a separate read-write transaction is routed to the primary, so a lagging replica never gets cached
+        this.primaryReadTemplate = new TransactionTemplate(transactionManager);
+        this.primaryReadTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Call outside of a transaction: a missing calendar is loaded in a transaction of its own,
+     * which would otherwise hold a second pool connection.
+     */
+    public List<AvailabilityInterval> getBusy(Integer itemId, LocalDateTime from, LocalDateTime to) {
+        NavigableMap<LocalDateTime, AvailabilityInterval> calendar = calendars.get(itemId, this::load);
+        List<AvailabilityInterval> busy = new ArrayList<>();
+        Map.Entry<LocalDateTime, AvailabilityInterval> previous = calendar.lowerEntry(from);
+        if (previous != null && previous.getValue().getEnd().isAfter(from)) {
+            busy.add(previous.getValue());
+        }
+        busy.addAll(calendar.subMap(from, true, to, false).values());
+        return busy;
+    }
+
+    /**
+     * Adds an approved booking to its item's calendar, or removes any other, once the current
+     * transaction commits. The patch runs after a load of the same item that is still in progress,
+     * so a calendar read before the commit still gets it. Items without a calendar are left alone.
+     */
+    public void onBookingChangedAfterCommit(Booking booking) {
+        Integer itemId = booking.getItem().getId();
+        AvailabilityInterval interval = new AvailabilityInterval(booking.getStart(), booking.getEnd());
+        boolean isApproved = Status.APPROVED.equals(booking.getStatus());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(itemId, interval, isApproved);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(itemId, interval, isApproved);
+            }
+        });
+    }
+
+    private void apply(Integer itemId, AvailabilityInterval interval, boolean isApproved) {
+        calendars.asMap().computeIfPresent(itemId, (id, calendar) -> {
+            if (isApproved) {
+                calendar.put(interval.getStart(), interval);
+            } else {
+                calendar.remove(interval.getStart(), interval);
+            }
+            return calendar;
+        });
+    }
+
+    private NavigableMap<LocalDateTime, AvailabilityInterval> load(Integer itemId) {
+        NavigableMap<LocalDateTime, AvailabilityInterval> calendar = new ConcurrentSkipListMap<>();
+        primaryReadTemplate.executeWithoutResult(status -> bookingRepository
+                .findByItemIdAndStatus(itemId, Status.APPROVED)
+                .forEach(b -> calendar.put(b.getStart(), new AvailabilityInterval(b.getStart(), b.getEnd()))));
+        return calendar;
+    }
+}
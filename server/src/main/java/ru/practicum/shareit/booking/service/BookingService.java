@@ -1,5 +1,6 @@
 package ru.practicum.shareit.booking.service;
 
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingDtoResponse;
 
@@ -8,6 +9,8 @@ import java.util.List;
 public interface BookingService {
     BookingDto add(BookingDto bookingDto, Integer userId);
 
+    List<BookingBatchResultDto> addAll(List<BookingDto> bookingDtos, Integer userId);
+
     BookingDto update(Integer bookingId, Integer userId, boolean isApproved);
 
     BookingDto getBooking(Integer bookingId, Integer userId);
@@ -15,4 +18,8 @@ public interface BookingService {
     List<BookingDtoResponse> getAllByBooker(String state, Integer userId, Integer from, Integer size);
 
     List<BookingDtoResponse> getAllByOwner(String state, Integer userId, Integer from, Integer size);
+
+    List<BookingDtoResponse> getAllByBookerAfter(String state, Integer userId, String cursor, Integer size);
+
+    List<BookingDtoResponse> getAllByOwnerAfter(String state, Integer userId, String cursor, Integer size);
 }
\ No newline at end of file
@@ -1,11 +1,16 @@
 package ru.practicum.shareit.booking.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingDtoResponse;
 import ru.practicum.shareit.exception.BookingException;
@@ -21,11 +26,18 @@ import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@Timed(value = "shareit.service", histogram = true)
 @AllArgsConstructor
 public class BookingServiceImpl implements BookingService {
     @Autowired
@@ -34,6 +46,8 @@ public class BookingServiceImpl implements BookingService {
     private ItemRepository itemRepository;
     @Autowired
     private UserService userService;
+    @Autowired
+    private BookingCalendar bookingCalendar;
     private final String[] errorMessage = new String[]{
             "Booking with id = %s not found",
             "Item with id = %s not found",
@@ -44,8 +58,11 @@ public class BookingServiceImpl implements BookingService {
             "Booking with id %s was already approved",
             "Requester with id %s is neither owner of item nor of booking",
             "Wrong pagination data",
-            "Unknown state: UNSUPPORTED_STATUS"
+            "Unknown state: UNSUPPORTED_STATUS",
+            "A batch holds from 1 to %s bookings",
+            "Batch entry %s is empty"
     };
+    private static final int MAX_BATCH_SIZE = 100;
 
     @Override
     @Transactional
@@ -54,37 +71,82 @@ public class BookingServiceImpl implements BookingService {
                 .orElseThrow(
                         () -> new NotFoundException(String.format(errorMessage[1], bookingDto.getItemId())));
 
-        if (!item.getAvailable()) {
-            throw new BookingException(String.format(errorMessage[2], item.getName()));
-        }
         User booker = UserDto.fromUserDto(userService.getUserById(userId));
-        if (userId.equals(item.getOwnerId())) {
-            throw new NotFoundException(String.format(errorMessage[3], userId));
-        }
-        if (bookingDto.getStart() == null || bookingDto.getEnd() == null
-                || bookingDto.getStart().equals(bookingDto.getEnd())
-                || bookingDto.getStart().isAfter(bookingDto.getEnd())
-                || bookingDto.getStart().isBefore(LocalDateTime.now())) {
+        validate(bookingDto, item, userId);
+        if (isOverlapping(item.getId(), bookingDto.getStart(), bookingDto.getEnd())) {
             throw new BookingException(String.format(errorMessage[4], bookingDto.getStart(), bookingDto.getEnd()));
         }
-        bookingDto.setStatus(Status.WAITING);
-        bookingDto.setItem(ItemDto.toItemDto(item));
-        bookingDto.setBooker(UserDto.toUserDto(booker));
-
-        Booking booking = bookingRepository.save(BookingDto.fromBookingDto(bookingDto));
+        Booking booking = bookingRepository.save(toWaitingBooking(bookingDto, item, booker));
         return BookingDto.toBookingDto(booking);
     }
 
+    @Override
+    @Transactional
+    public List<BookingBatchResultDto> addAll(List<BookingDto> bookingDtos, Integer userId) {
+        if (bookingDtos == null || bookingDtos.isEmpty() || bookingDtos.size() > MAX_BATCH_SIZE) {
+            throw new BookingException(String.format(errorMessage[10], MAX_BATCH_SIZE));
+        }
+        User booker = UserDto.fromUserDto(userService.getUserById(userId));
+        List<BookingDto> entries = bookingDtos.stream()
+                .filter(Objects::nonNull)
+                .toList();
+        Set<Integer> itemIds = entries.stream()
+                .map(BookingDto::getItemId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Integer, Item> items = itemRepository.findAllById(itemIds)
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        Map<Integer, List<Booking>> approved = findApproved(entries, itemIds);
+
+        List<BookingBatchResultDto> results = new ArrayList<>();
+        List<Booking> bookings = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < bookingDtos.size(); i++) {
+            BookingDto bookingDto = bookingDtos.get(i);
+            if (bookingDto == null) {
+                results.add(BookingBatchResultDto.failure(i, String.format(errorMessage[11], i)));
+                continue;
+            }
+            Item item = items.get(bookingDto.getItemId());
+            try {
+                if (item == null) {
+                    throw new NotFoundException(String.format(errorMessage[1], bookingDto.getItemId()));
+                }
+                validate(bookingDto, item, userId);
+                boolean isOverlapping = approved.getOrDefault(item.getId(), List.of())
+                        .stream()
+                        .anyMatch(b -> b.getStart().isBefore(bookingDto.getEnd())
+                                && b.getEnd().isAfter(bookingDto.getStart()));
+                if (isOverlapping) {
+                    throw new BookingException(String.format(errorMessage[4], bookingDto.getStart(),
+                            bookingDto.getEnd()));
+                }
+                bookings.add(toWaitingBooking(bookingDto, item, booker));
+                indexes.add(i);
+            } catch (BookingException | NotFoundException e) {
+                results.add(BookingBatchResultDto.failure(i, e.getMessage()));
+            }
+        }
+
+        List<Booking> saved = bookingRepository.saveAll(bookings);
+        for (int i = 0; i < saved.size(); i++) {
+            results.add(BookingBatchResultDto.success(indexes.get(i), BookingDto.toBookingDto(saved.get(i))));
+        }
+        results.sort(Comparator.comparing(BookingBatchResultDto::getIndex));
+        return results;
+    }
+
     @Override
     @Transactional
     public BookingDto update(Integer bookingId, Integer userId, boolean isApproved) {
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findWithItemAndBookerById(bookingId)
                 .orElseThrow(
                         () -> new BookingException(String.format(errorMessage[0], bookingId))
                 );
         userService.getUserById(userId);
         Item i = itemRepository.findById(booking.getItem().getId()).orElseThrow(
-                () -> new NotFoundException(String.format(errorMessage[1], booking.getItem())));
+                () -> new NotFoundException(String.format(errorMessage[1], booking.getItem().getId())));
 
         if (!userId.equals(i.getOwnerId())) {
             throw new NotFoundException(String.format(errorMessage[5], userId));
@@ -92,18 +154,29 @@ public class BookingServiceImpl implements BookingService {
         if (booking.getStatus().equals(Status.APPROVED)) {
             throw new BookingException(String.format(errorMessage[6], bookingId));
         }
+        if (isApproved && isOverlapping(i.getId(), booking.getStart(), booking.getEnd())) {
+            throw new BookingException(String.format(errorMessage[4], booking.getStart(), booking.getEnd()));
+        }
         booking.setStatus(isApproved ? Status.APPROVED : Status.REJECTED);
-        return BookingDto.toBookingDto(bookingRepository.save(booking));
+        Booking updated;
+        try {
+            updated = bookingRepository.saveAndFlush(booking);
+        } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
+            // concurrent approvals of overlapping bookings end in the exclusion constraint or in a deadlock
+            throw new BookingException(String.format(errorMessage[4], booking.getStart(), booking.getEnd()));
+        }
+        bookingCalendar.onBookingChangedAfterCommit(updated);
+        return BookingDto.toBookingDto(updated);
     }
 
     @Override
     @Transactional(readOnly = true)
     public BookingDto getBooking(Integer bookingId, Integer userId) {
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findWithItemAndBookerById(bookingId)
                 .orElseThrow(() -> new NotFoundException(String.format(errorMessage[0], bookingId)));
         userService.getUserById(userId);
         Item i = itemRepository.findById(booking.getItem().getId()).orElseThrow(
-                () -> new NotFoundException(String.format(errorMessage[1], booking.getItem())));
+                () -> new NotFoundException(String.format(errorMessage[1], booking.getItem().getId())));
         if (!booking.getBooker().getId().equals(userId) && !i.getOwnerId().equals(userId)) {
             throw new NotFoundException(String.format(errorMessage[7], userId));
         }
@@ -116,7 +189,7 @@ public class BookingServiceImpl implements BookingService {
         userService.getUserById(bookerId);
         if (from < 0) throw new IllegalArgumentException(errorMessage[8]);
         PageRequest pageRequest = PageRequest.of(from > 0 ? from / size : 0, size);
-        List<Booking> bookings;
+        List<BookingDtoResponse> bookings;
         LocalDateTime start = LocalDateTime.now();
         LocalDateTime end = LocalDateTime.now();
         switch (state) {
@@ -145,11 +218,7 @@ public class BookingServiceImpl implements BookingService {
                 throw new BookingException(errorMessage[9]);
         }
 
-        List<BookingDtoResponse> l = bookings
-                .stream()
-                .map(BookingDtoResponse::toBookingDtoResponse)
-                .collect(Collectors.toList());
-        return l;
+        return bookings;
     }
 
     @Override
@@ -158,7 +227,7 @@ public class BookingServiceImpl implements BookingService {
         userService.getUserById(ownerId);
         if (from < 0) throw new IllegalArgumentException(errorMessage[8]);
         PageRequest pageRequest = PageRequest.of(from > 0 ? from / size : 0, size);
-        List<Booking> bookings;
+        List<BookingDtoResponse> bookings;
         LocalDateTime start = LocalDateTime.now();
         LocalDateTime end = LocalDateTime.now();
         switch (state) {
@@ -187,10 +256,107 @@ public class BookingServiceImpl implements BookingService {
             default:
                 throw new BookingException(errorMessage[9]);
         }
-        List<BookingDtoResponse> l = bookings
+        return bookings;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingDtoResponse> getAllByBookerAfter(String state, Integer bookerId, String cursor, Integer size) {
+        userService.getUserById(bookerId);
+        return getAllAfterCursor(state, bookerId, false, cursor, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingDtoResponse> getAllByOwnerAfter(String state, Integer ownerId, String cursor, Integer size) {
+        userService.getUserById(ownerId);
+        return getAllAfterCursor(state, ownerId, true, cursor, size);
+    }
+
+    private void validate(BookingDto bookingDto, Item item, Integer userId) {
+        if (!item.getAvailable()) {
+            throw new BookingException(String.format(errorMessage[2], item.getName()));
+        }
+        if (userId.equals(item.getOwnerId())) {
+            throw new NotFoundException(String.format(errorMessage[3], userId));
+        }
+        if (bookingDto.getStart() == null || bookingDto.getEnd() == null
+                || bookingDto.getStart().equals(bookingDto.getEnd())
+                || bookingDto.getStart().isAfter(bookingDto.getEnd())
+                || bookingDto.getStart().isBefore(LocalDateTime.now())) {
+            throw new BookingException(String.format(errorMessage[4], bookingDto.getStart(), bookingDto.getEnd()));
+        }
+    }
+
+    private Booking toWaitingBooking(BookingDto bookingDto, Item item, User booker) {
+        bookingDto.setStatus(Status.WAITING);
+        bookingDto.setItem(ItemDto.toItemDto(item));
+        bookingDto.setBooker(UserDto.toUserDto(booker));
+        Booking booking = BookingDto.fromBookingDto(bookingDto);
+        booking.setItem(item);
+        return booking;
+    }
+
+    private Map<Integer, List<Booking>> findApproved(List<BookingDto> bookingDtos, Set<Integer> itemIds) {
+        LocalDateTime start = bookingDtos.stream()
+                .map(BookingDto::getStart)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+        LocalDateTime end = bookingDtos.stream()
+                .map(BookingDto::getEnd)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        if (itemIds.isEmpty() || start == null || end == null) {
+            return Map.of();
+        }
+        return bookingRepository.findByItemIdInAndStatusAndStartBeforeAndEndAfter(itemIds, Status.APPROVED, end, start)
                 .stream()
-                .map(BookingDtoResponse::toBookingDtoResponse)
-                .collect(Collectors.toList());
-        return l;
+                .collect(Collectors.groupingBy(b -> b.getItem().getId()));
+    }
+
+    private boolean isOverlapping(Integer itemId, LocalDateTime start, LocalDateTime end) {
+        return bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(itemId, Status.APPROVED,
+                end, start);
+    }
+
+    private List<BookingDtoResponse> getAllAfterCursor(String state, Integer userId, boolean isOwner,
+                                                       String cursor, Integer size) {
+        BookingCursor position = BookingCursor.decode(cursor);
+        LocalDateTime now = LocalDateTime.now();
+        List<Status> statuses = List.of(Status.values());
+        LocalDateTime startFrom = BookingCursor.MIN_DATE;
+        LocalDateTime startTo = BookingCursor.MAX_DATE;
+        LocalDateTime endFrom = BookingCursor.MIN_DATE;
+        LocalDateTime endTo = BookingCursor.MAX_DATE;
+        switch (state) {
+            case "ALL":
+                break;
+            case "CURRENT":
+                startTo = now;
+                endFrom = now;
+                break;
+            case "PAST":
+                endTo = now;
+                break;
+            case "FUTURE":
+                startFrom = now;
+                break;
+            case "WAITING":
+                statuses = List.of(Status.WAITING);
+                break;
+            case "REJECTED":
+                statuses = List.of(Status.REJECTED);
+                break;
+            default:
+                throw new BookingException(errorMessage[9]);
+        }
+        PageRequest pageRequest = PageRequest.of(0, size);
+        return isOwner
+                ? bookingRepository.findByItemOwnerIdAfterCursor(userId, statuses, startFrom, startTo,
+                        endFrom, endTo, position.getStart(), position.getId(), pageRequest)
+                : bookingRepository.findByBookerIdAfterCursor(userId, statuses, startFrom, startTo,
+                        endFrom, endTo, position.getStart(), position.getId(), pageRequest);
     }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package ru.practicum.shareit.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Caffeine caches from spring.cache.* whose puts and evictions wait for the surrounding transaction to commit,
+ * so a rolled back update never reaches the cache.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(@Value("${spring.cache.cache-names}") List<String> cacheNames,
+                                     @Value("${spring.cache.caffeine.spec}") String spec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheSpecification(spec);
+        cacheManager.setCacheNames(cacheNames);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,91 @@
+package ru.practicum.shareit.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a replica that is not lagging behind, everything else to the primary.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+    private static final String PRIMARY = "primary";
+    /**
+     * Seconds the replica is behind, or null when its WAL receiver is not streaming from the primary: such a
+     * replica has replayed everything it received and would otherwise look up to date while falling behind.
+     */
+    private static final String LAG_QUERY = "select case " +
+            "when not pg_is_in_recovery() then 0 " +
+            "when not exists (select 1 from pg_stat_wal_receiver where status = 'streaming') then null " +
+            "when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0 " +
+            "else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0) end";
+
+    private final Map<String, HikariDataSource> replicas;
+    private final Duration maxLag;
+    private final AtomicInteger counter = new AtomicInteger();
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, HikariDataSource> replicas, Duration maxLag) {
+        this.replicas = replicas;
+        this.maxLag = maxLag;
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        List<String> healthy = healthyReplicas;
+        if (healthy.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(counter.getAndIncrement(), healthy.size()));
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.datasource.replica-check-interval}")
+    public void checkReplicationLag() {
+        if (replicas.isEmpty()) {
+            return;
+        }
+        List<String> healthy = new ArrayList<>();
+        replicas.forEach((key, replica) -> {
+            try (Connection connection = replica.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+                rs.next();
+                double lagSeconds = rs.getDouble(1);
+                if (rs.wasNull()) {
+                    log.warn("Replica {} is not streaming from the primary, reads fall back to the primary", key);
+                } else if (lagSeconds * 1000 <= maxLag.toMillis()) {
+                    healthy.add(key);
+                } else {
+                    log.warn("Replica {} is {}s behind the primary, reads fall back to the primary", key, lagSeconds);
+                }
+            } catch (SQLException e) {
+                log.warn("Replica {} is unavailable, reads fall back to the primary: {}", key, e.getMessage());
+            }
+        });
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    @Override
+    public void destroy() {
+        replicas.values().forEach(HikariDataSource::close);
+    }
+}
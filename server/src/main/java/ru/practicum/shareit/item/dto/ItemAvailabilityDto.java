@@ -0,0 +1,56 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemAvailabilityDto {
+    Integer itemId;
+    LocalDateTime from;
+    LocalDateTime to;
+    List<AvailabilityInterval> free;
+    List<AvailabilityInterval> busy;
+
+    /**
+     * Splits the window into free and busy intervals. {@code bookings} must be ordered by start
+     * and must not overlap each other; intervals sticking out of the window are clipped to it.
+     */
+    public static ItemAvailabilityDto toItemAvailabilityDto(Integer itemId, LocalDateTime from, LocalDateTime to,
+                                                            List<AvailabilityInterval> bookings) {
+        List<AvailabilityInterval> free = new ArrayList<>();
+        List<AvailabilityInterval> busy = new ArrayList<>();
+        LocalDateTime time = from;
+        for (AvailabilityInterval booking : bookings) {
+            LocalDateTime start = booking.getStart().isBefore(from) ? from : booking.getStart();
+            LocalDateTime end = booking.getEnd().isAfter(to) ? to : booking.getEnd();
+            if (!end.isAfter(start)) {
+                continue;
+            }
+            if (start.isAfter(time)) {
+                free.add(new AvailabilityInterval(time, start));
+            }
+            busy.add(new AvailabilityInterval(start, end));
+            if (end.isAfter(time)) {
+                time = end;
+            }
+        }
+        if (time.isBefore(to)) {
+            free.add(new AvailabilityInterval(time, to));
+        }
+        return ItemAvailabilityDto.builder()
+                .itemId(itemId)
+                .from(from)
+                .to(to)
+                .free(free)
+                .busy(busy)
+                .build();
+    }
+}
@@ -7,8 +7,8 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import ru.practicum.shareit.item.model.Item;
 
-import javax.validation.constraints.NotBlank;
-import javax.validation.constraints.NotNull;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 
 @AllArgsConstructor
 @NoArgsConstructor
@@ -32,6 +32,6 @@ public class ItemDto {
     public static Item fromItemDto(ItemDto dto, Integer owner) {
         return new Item(dto.getId(),
                 dto.getName(), dto.getDescription(),
-                dto.getAvailable(), owner, dto.getRequestId());
+                dto.getAvailable(), owner, dto.getRequestId(), null);
     }
 }
\ No newline at end of file
@@ -7,17 +7,12 @@ import lombok.Data;
 import lombok.experimental.FieldDefaults;
 import ru.practicum.shareit.booking.dto.BookingDtoForItem;
 import ru.practicum.shareit.booking.model.Booking;
-import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
-import ru.practicum.shareit.user.model.User;
 
-import javax.validation.constraints.NotBlank;
-import javax.validation.constraints.NotNull;
-import java.time.LocalDateTime;
-import java.util.Comparator;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Data
@@ -36,25 +31,12 @@ public class ItemDtoWithBooking {
     BookingDtoForItem nextBooking;
     List<CommentDto> comments;
 
-    public static ItemDtoWithBooking toItemDtoWithBooking(Item item, List<Booking> bookings, User user,
+    public static ItemDtoWithBooking toItemDtoWithBooking(Item item, Booking lastBooking, Booking nextBooking,
                                                           List<Comment> comments) {
-        LocalDateTime time = LocalDateTime.now();
-
-        Optional<Booking> lastBooking = bookings.stream()
-                .filter(b -> user.getId().equals(b.getItem().getOwnerId()))
-                .filter(b -> b.getItem().getId().equals(item.getId()) && b.getStatus().equals(Status.APPROVED))
-                .filter(b -> (b.getStart().isBefore(time) && b.getEnd().isAfter(time)) || b.getEnd().isBefore(time))
-                .max(Comparator.comparing(Booking::getId));
-        Optional<Booking> nextBooking = bookings.stream()
-                .filter(b -> user.getId().equals(b.getItem().getOwnerId()))
-                .filter(b -> b.getItem().getId().equals(item.getId()) && b.getStatus().equals(Status.APPROVED))
-                .filter(b -> b.getStart().isAfter(time))
-                .min(Comparator.comparing(Booking::getStart));
-
-        BookingDtoForItem actualLastBooking = lastBooking
-                .map(BookingDtoForItem::toBookingDtoForItem).orElse(null);
-        BookingDtoForItem actualNextBooking = nextBooking
-                .map(BookingDtoForItem::toBookingDtoForItem).orElse(null);
+        BookingDtoForItem actualLastBooking = lastBooking == null
+                ? null : BookingDtoForItem.toBookingDtoForItem(lastBooking);
+        BookingDtoForItem actualNextBooking = nextBooking == null
+                ? null : BookingDtoForItem.toBookingDtoForItem(nextBooking);
 
         List<CommentDto> commentDtos = comments
                 .stream()
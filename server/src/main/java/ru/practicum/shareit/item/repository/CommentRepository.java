@@ -3,8 +3,11 @@ package ru.practicum.shareit.item.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import ru.practicum.shareit.item.model.Comment;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Integer> {
     List<Comment> findByItemId(Integer itemId);
+
+    List<Comment> findByItemIdIn(Collection<Integer> itemIds);
 }
@@ -5,15 +5,19 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.item.model.Item;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ItemRepository extends JpaRepository<Item, Integer> {
     @Query("select i from Item i " +
             "where (lower(i.name) like lower(concat('%', ?1, '%')) " +
-            " or lower(i.description) like lower(concat('%', ?1, '%'))) and available = true")
+            " or lower(i.description) like lower(concat('%', ?1, '%'))) and i.available = true " +
+            "order by case when lower(i.name) like lower(concat('%', ?1, '%')) then 0 else 1 end, i.id")
     List<Item> findAllByText(String text, PageRequest request);
 
     List<Item> findAllByOwnerId(Integer owner, PageRequest request);
 
     List<Item> findAllByRequestIdOrderByIdDesc(Integer requestId);
+
+    List<Item> findAllByRequestIdInOrderByIdDesc(Collection<Integer> requestIds);
 }
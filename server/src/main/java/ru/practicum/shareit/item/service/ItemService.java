@@ -1,10 +1,12 @@
 package ru.practicum.shareit.item.service;
 
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
 import ru.practicum.shareit.item.model.Comment;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemService {
@@ -19,4 +21,6 @@ public interface ItemService {
     List<ItemDto> getItemsByText(String text, Integer from, Integer size);
 
     Comment addComment(Integer userId, Integer itemId, CommentDto commentDto);
+
+    ItemAvailabilityDto getAvailability(Integer itemId, Integer userId, LocalDateTime from, LocalDateTime to);
 }
\ No newline at end of file
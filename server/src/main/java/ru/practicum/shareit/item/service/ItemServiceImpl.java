@@ -1,5 +1,6 @@
 package ru.practicum.shareit.item.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,7 +9,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.BookingException;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingCalendar;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
 import ru.practicum.shareit.item.model.Comment;
@@ -16,52 +19,56 @@ import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
-import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "shareit.service", histogram = true)
 @Data
 @RequiredArgsConstructor
 public class ItemServiceImpl implements ItemService {
     @Autowired
     private ItemRepository itemStorage;
     @Autowired
-    private UserRepository userStorage;
+    private UserService userService;
     @Autowired
     private CommentRepository commentStorage;
     @Autowired
     private BookingRepository bookingStorage;
+    @Autowired
+    private BookingCalendar bookingCalendar;
     private final String [] errorMessage = new String[]{
             "User with id = %s not found ",
             "Item with id = %s not found ",
             "Item cannot be added to unknown user ",
             "Item cannot be updated by unknown user ",
             "Item doesn't belong to the user with id = %s ",
-            "User with id %s has never booked the item or booking is still actual "
+            "User with id %s has never booked the item or booking is still actual ",
+            "Availability window since %s till %s is not valid "
     };
 
     @Override
     @Transactional
     public ItemDto create(ItemDto i, Integer owner) {
-        if (!userStorage.existsById(owner)) {
-            throw new NotFoundException(String.format(errorMessage[0] + errorMessage[2], owner));
-        }
+        userService.getUserById(owner, errorMessage[0] + errorMessage[2]);
         return ItemDto.toItemDto(itemStorage.save(ItemDto.fromItemDto(i, owner)));
     }
 
     @Override
     @Transactional
     public ItemDto update(ItemDto i, Integer owner, Integer id) {
-        if (!userStorage.existsById(owner)) {
-            throw new NotFoundException(String.format(errorMessage[0] + errorMessage[3], owner));
-        }
+        userService.getUserById(owner, errorMessage[0] + errorMessage[3]);
         if (!itemStorage.existsById(id)) {
             throw new NotFoundException(String.format(errorMessage[1], id));
         }
@@ -84,30 +91,56 @@ public class ItemServiceImpl implements ItemService {
     @Override
     @Transactional
     public ItemDtoWithBooking getItemById(Integer id, Integer ownerId) {
-        if (id == null || !itemStorage.existsById(id)) {
+        if (id == null) {
             throw new NotFoundException(String.format(errorMessage[1], id));
         }
-
-        User u = userStorage.findById(ownerId)
+        Item item = itemStorage.findById(id)
                 .orElseThrow(
-                        () -> new NotFoundException(String.format(errorMessage[0], ownerId))
-                );
-        return ItemDtoWithBooking.toItemDtoWithBooking(itemStorage.getReferenceById(id),
-                bookingStorage.findByItemOwnerId(ownerId), u, commentStorage.findByItemId(id));
+                        () -> new NotFoundException(String.format(errorMessage[1], id)));
+
+        User u = UserDto.fromUserDto(userService.getUserById(ownerId, errorMessage[0]));
+        Booking lastBooking = null;
+        Booking nextBooking = null;
+        if (u.getId().equals(item.getOwnerId())) {
+            LocalDateTime time = LocalDateTime.now();
+            lastBooking = bookingStorage
+                    .findFirstByItemIdAndStatusAndStartBeforeOrderByIdDesc(id, Status.APPROVED, time)
+                    .orElse(null);
+            nextBooking = bookingStorage
+                    .findFirstByItemIdAndStatusAndStartAfterOrderByStartAsc(id, Status.APPROVED, time)
+                    .orElse(null);
+        }
+        return ItemDtoWithBooking.toItemDtoWithBooking(item, lastBooking, nextBooking,
+                commentStorage.findByItemId(id));
     }
 
     @Override
     @Transactional
     public List<ItemDtoWithBooking> getItemsByUser(Integer id, Integer from, Integer size) {
-        User user = userStorage.findById(id)
-                .orElseThrow(
-                        () -> new NotFoundException(String.format(errorMessage[0], id)));
+        userService.getUserById(id, errorMessage[0]);
         PageRequest pageRequest = PageRequest.of(from > 0 ? from / size : 0, size);
-        return itemStorage.findAllByOwnerId(id, pageRequest)
+        List<Item> items = itemStorage.findAllByOwnerId(id, pageRequest);
+        if (items.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Integer> itemIds = items.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+        LocalDateTime time = LocalDateTime.now();
+        Map<Integer, Booking> lastBookings = bookingStorage.findLastApprovedByItemIdIn(itemIds, time)
+                .stream()
+                .collect(Collectors.toMap(b -> b.getItem().getId(), Function.identity()));
+        Map<Integer, Booking> nextBookings = bookingStorage.findNextApprovedByItemIdIn(itemIds, time)
+                .stream()
+                .collect(Collectors.toMap(b -> b.getItem().getId(), Function.identity()));
+        Map<Integer, List<Comment>> comments = commentStorage.findByItemIdIn(itemIds)
+                .stream()
+                .collect(Collectors.groupingBy(c -> c.getItem().getId()));
+        return items
                 .stream()
                 .map(item -> ItemDtoWithBooking.toItemDtoWithBooking(item,
-                        bookingStorage.findByItemId(item.getId()), user,
-                        commentStorage.findByItemId(item.getId())))
+                        lastBookings.get(item.getId()), nextBookings.get(item.getId()),
+                        comments.getOrDefault(item.getId(), List.of())))
                 .sorted(Comparator.comparingInt(ItemDtoWithBooking::getId))
                 .collect(Collectors.toList());
     }
@@ -128,11 +161,7 @@ public class ItemServiceImpl implements ItemService {
     @Override
     @Transactional
     public Comment addComment(Integer userId, Integer itemId, CommentDto commentDto) {
-        User user = userStorage.findById(userId)
-                .orElseThrow(
-                        () -> new NotFoundException(
-                                String.format(errorMessage[0], userId))
-                );
+        User user = UserDto.fromUserDto(userService.getUserById(userId, errorMessage[0]));
         Item item = itemStorage.findById(itemId)
                 .orElseThrow(
                         () -> new NotFoundException(String.format(errorMessage[1], itemId)));
@@ -145,4 +174,18 @@ public class ItemServiceImpl implements ItemService {
             return commentStorage.save(CommentDto.toComment(commentDto, user, item));
         }
     }
-}
\ No newline at end of file
+
+    // no surrounding transaction: a calendar miss loads from the primary in a transaction of its own
+    @Override
+    public ItemAvailabilityDto getAvailability(Integer itemId, Integer userId, LocalDateTime from, LocalDateTime to) {
+        userService.getUserById(userId, errorMessage[0]);
+        if (!itemStorage.existsById(itemId)) {
+            throw new NotFoundException(String.format(errorMessage[1], itemId));
+        }
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new BookingException(String.format(errorMessage[6], from, to));
+        }
+        return ItemAvailabilityDto.toItemAvailabilityDto(itemId, from, to,
+                bookingCalendar.getBusy(itemId, from, to));
+    }
+}
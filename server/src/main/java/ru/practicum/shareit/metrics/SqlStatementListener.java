@@ -0,0 +1,31 @@
+package ru.practicum.shareit.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Registered for every Hibernate session via hibernate.session.events.auto.
+ */
+public class SqlStatementListener implements SessionEventListener {
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementStats.record(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementStats.record(System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,35 @@
+package ru.practicum.shareit.metrics;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * JDBC statements executed by the current request thread, across all Hibernate sessions it opens.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SqlStatementStats {
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long nanos;
+
+    public static void start() {
+        CURRENT.set(new SqlStatementStats());
+    }
+
+    public static SqlStatementStats finish() {
+        SqlStatementStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    static void record(long nanos) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.nanos += nanos;
+        }
+    }
+}
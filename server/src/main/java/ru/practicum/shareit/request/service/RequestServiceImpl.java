@@ -1,29 +1,36 @@
 package ru.practicum.shareit.request.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.RequestRepository;
+import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
-import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "shareit.service", histogram = true)
 @RequiredArgsConstructor
 public class RequestServiceImpl implements RequestService {
     @Autowired
     private RequestRepository requestRepository;
     @Autowired
-    private UserRepository userRepository;
+    private UserService userService;
     @Autowired
     private ItemRepository itemRepository;
     private final String [] errorMessage = new String[]{
@@ -35,9 +42,7 @@ public class RequestServiceImpl implements RequestService {
     @Override
     @Transactional
     public ItemRequestDto add(ItemRequestDto dto, Integer userId) {
-        User u = userRepository.findById(userId)
-                .orElseThrow(
-                        () -> new NotFoundException(String.format(errorMessage[0], userId)));
+        User u = UserDto.fromUserDto(userService.getUserById(userId, errorMessage[0]));
         ItemRequest r = ItemRequestDto.fromItemRequestDto(dto, u);
         r.setRequestor(u);
         r.setCreated(LocalDateTime.now());
@@ -49,9 +54,7 @@ public class RequestServiceImpl implements RequestService {
     @Override
     @Transactional(readOnly = true)
     public ItemRequestDto get(Integer userId, Integer requestId) {
-        userRepository.findById(userId)
-                .orElseThrow(
-                        () -> new NotFoundException(String.format(errorMessage[0], userId)));
+        userService.getUserById(userId, errorMessage[0]);
 
         ItemRequest r = requestRepository.findById(requestId)
                 .orElseThrow(
@@ -64,29 +67,35 @@ public class RequestServiceImpl implements RequestService {
     @Override
     @Transactional(readOnly = true)
     public List<ItemRequestDto> getByUserId(Integer userId) {
-        userRepository.findById(userId)
-                .orElseThrow(
-                        () -> new NotFoundException(String.format(errorMessage[0], userId)));
+        userService.getUserById(userId, errorMessage[0]);
         List<ItemRequest> requests = requestRepository.findByRequestorIdOrderByCreatedDesc(userId);
-        return requests
-                .stream()
-                .map(request -> ItemRequestDto.toItemRequestDto(request,
-                        itemRepository.findAllByRequestIdOrderByIdDesc(request.getId())))
-                .collect(Collectors.toList());
+        return toItemRequestDtos(requests);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ItemRequestDto> getAll(Integer userId, Integer from, Integer size) {
-        userRepository.findById(userId)
-                .orElseThrow(
-                        () -> new NotFoundException(String.format(errorMessage[2], userId)));
+        userService.getUserById(userId, errorMessage[2]);
         List<ItemRequest> requests = requestRepository.findByRequestorIdIsNotOrderByCreatedDesc(userId,
                 PageRequest.of(from > 0 ? from / size : 0, size));
+        return toItemRequestDtos(requests);
+    }
+
+    private List<ItemRequestDto> toItemRequestDtos(List<ItemRequest> requests) {
+        if (requests.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Set<Integer> requestIds = requests
+                .stream()
+                .map(ItemRequest::getId)
+                .collect(Collectors.toSet());
+        Map<Integer, List<Item>> items = itemRepository.findAllByRequestIdInOrderByIdDesc(requestIds)
+                .stream()
+                .collect(Collectors.groupingBy(Item::getRequestId));
         return requests
                 .stream()
                 .map(request -> ItemRequestDto.toItemRequestDto(request,
-                        itemRepository.findAllByRequestIdOrderByIdDesc(request.getId())))
+                        items.getOrDefault(request.getId(), List.of())))
                 .collect(Collectors.toList());
     }
 }
\ No newline at end of file
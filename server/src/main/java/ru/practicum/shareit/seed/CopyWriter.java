@@ -0,0 +1,79 @@
+package ru.practicum.shareit.seed;
+
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * Streams CSV rows into a single COPY ... FROM STDIN, buffering about a megabyte at a time.
+ */
+class CopyWriter implements AutoCloseable {
+    private static final int FLUSH_SIZE = 1 << 20;
+
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_SIZE + 1024);
+    private boolean isFirstValue = true;
+
+    CopyWriter(CopyManager copyManager, String table, String columns) throws SQLException {
+        copyIn = copyManager.copyIn(String.format("COPY %s (%s) FROM STDIN WITH (FORMAT csv)", table, columns));
+    }
+
+    CopyWriter value(long value) {
+        separate();
+        buffer.append(value);
+        return this;
+    }
+
+    CopyWriter value(boolean value) {
+        separate();
+        buffer.append(value);
+        return this;
+    }
+
+    CopyWriter value(LocalDateTime value) {
+        separate();
+        buffer.append(value);
+        return this;
+    }
+
+    CopyWriter value(String value) {
+        separate();
+        buffer.append('"').append(value.replace("\"", "\"\"")).append('"');
+        return this;
+    }
+
+    CopyWriter nullValue() {
+        separate();
+        return this;
+    }
+
+    void endRow() throws SQLException {
+        buffer.append('\n');
+        isFirstValue = true;
+        if (buffer.length() >= FLUSH_SIZE) {
+            flush();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        flush();
+        copyIn.endCopy();
+    }
+
+    private void separate() {
+        if (!isFirstValue) {
+            buffer.append(',');
+        }
+        isFirstValue = false;
+    }
+
+    private void flush() throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
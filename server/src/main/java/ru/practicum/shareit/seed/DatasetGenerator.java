@@ -0,0 +1,231 @@
+package ru.practicum.shareit.seed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.model.Status;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Bulk-loads a synthetic dataset with COPY and exits. Run the server with --spring.profiles.active=seed.
+ * <p>
+ * Item owners, booked items and commented items are drawn from a power law, so a few owners hold most of
+ * the catalog and a few items carry most of the booking history. Bookings span the last three years and
+ * the next three months; bookings of one item never overlap, which keeps the approved-booking exclusion
+ * constraint satisfied.
+ */
+@Slf4j
+@Component
+@Profile("seed")
+public class DatasetGenerator implements ApplicationRunner {
+    private static final List<String> TABLES = List.of("users", "requests", "items", "bookings", "comments");
+    private static final String[] ITEM_NAMES = {"Дрель", "Аккумуляторная отвертка", "Перфоратор", "Палатка",
+            "Велосипед", "Самокат", "Лобзик", "Шуруповерт", "Стремянка", "Надувная лодка"};
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private ConfigurableApplicationContext context;
+    @Value("${shareit.seed.users}")
+    private int userCount;
+    @Value("${shareit.seed.requests}")
+    private int requestCount;
+    @Value("${shareit.seed.items}")
+    private int itemCount;
+    @Value("${shareit.seed.bookings}")
+    private long bookingCount;
+    @Value("${shareit.seed.comments}")
+    private long commentCount;
+    @Value("${shareit.seed.skew}")
+    private double skew;
+    @Value("${shareit.seed.random-seed}")
+    private long randomSeed;
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        SplittableRandom random = new SplittableRandom(randomSeed);
+        try (Connection connection = dataSource.getConnection()) {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            long userBase = maxId(connection, "users");
+            long requestBase = maxId(connection, "requests");
+            long itemBase = maxId(connection, "items");
+            long bookingBase = maxId(connection, "bookings");
+            long commentBase = maxId(connection, "comments");
+
+            long started = System.currentTimeMillis();
+            copyUsers(copyManager, userBase);
+            copyRequests(copyManager, random, requestBase, userBase);
+            long[] itemOwners = copyItems(copyManager, random, itemBase, userBase, requestBase);
+            copyBookings(copyManager, random, bookingBase, itemBase, userBase, itemOwners);
+            copyComments(copyManager, random, commentBase, itemBase, userBase);
+            log.info("Loaded {} users, {} requests, {} items, {} bookings and {} comments in {} s", userCount,
+                    requestCount, itemCount, bookingCount, commentCount, (System.currentTimeMillis() - started) / 1000);
+
+            try (Statement statement = connection.createStatement()) {
+                for (String table : TABLES) {
+                    statement.execute(String.format("SELECT setval('%1$s_seq', "
+                            + "(SELECT COALESCE(MAX(id), 0) + 50 FROM %1$s), false)", table));
+                    statement.execute("ANALYZE " + table);
+                }
+            }
+        }
+        System.exit(SpringApplication.exit(context));
+    }
+
+    private void copyUsers(CopyManager copyManager, long base) throws SQLException {
+        try (CopyWriter users = new CopyWriter(copyManager, "users", "id, name, email")) {
+            for (long id = base + 1; id <= base + userCount; id++) {
+                users.value(id).value("User " + id).value("user" + id + "@seed.local").endRow();
+            }
+        }
+        log.info("Copied {} users", userCount);
+    }
+
+    private void copyRequests(CopyManager copyManager, SplittableRandom random, long base, long userBase)
+            throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        try (CopyWriter requests = new CopyWriter(copyManager, "requests",
+                "id, description, requestor_id, created")) {
+            for (long id = base + 1; id <= base + requestCount; id++) {
+                requests.value(id)
+                        .value("Нужна " + ITEM_NAMES[random.nextInt(ITEM_NAMES.length)].toLowerCase())
+                        .value(userBase + 1 + random.nextInt(userCount))
+                        .value(now.minusMinutes(random.nextInt(60 * 24 * 365)))
+                        .endRow();
+            }
+        }
+        log.info("Copied {} requests", requestCount);
+    }
+
+    /**
+     * Returns the owner of every generated item, indexed from zero.
+     */
+    private long[] copyItems(CopyManager copyManager, SplittableRandom random, long base, long userBase,
+                             long requestBase) throws SQLException {
+        long[] owners = new long[itemCount];
+        try (CopyWriter items = new CopyWriter(copyManager, "items",
+                "id, name, description, is_available, owner_id, request_id")) {
+            for (int i = 0; i < itemCount; i++) {
+                String name = ITEM_NAMES[random.nextInt(ITEM_NAMES.length)];
+                owners[i] = userBase + 1 + skewed(random, userCount);
+                items.value(base + 1 + i)
+                        .value(name + " " + (i + 1))
+                        .value(name + " в хорошем состоянии, комплект " + random.nextInt(1000))
+                        .value(random.nextInt(10) != 0)
+                        .value(owners[i]);
+                if (requestCount > 0 && random.nextInt(20) == 0) {
+                    items.value(requestBase + 1 + random.nextInt(requestCount));
+                } else {
+                    items.nullValue();
+                }
+                items.endRow();
+            }
+        }
+        log.info("Copied {} items", itemCount);
+        return owners;
+    }
+
+    /**
+     * Every item gets an equal share of the booking window for each of its bookings, so hot items get
+     * short, dense bookings instead of running years past the window. The booked items are drawn twice
+     * from the same seed: once to count each item's bookings, once to write them.
+     */
+    private void copyBookings(CopyManager copyManager, SplittableRandom random, long base, long itemBase,
+                              long userBase, long[] itemOwners) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime origin = now.minusYears(3);
+        long windowSeconds = Duration.between(origin, now.plusDays(90)).toSeconds();
+        long itemSeed = random.nextLong();
+        int[] bookingsPerItem = new int[itemCount];
+        SplittableRandom itemPicks = new SplittableRandom(itemSeed);
+        for (long i = 0; i < bookingCount; i++) {
+            bookingsPerItem[skewed(itemPicks, itemCount)]++;
+        }
+
+        int[] written = new int[itemCount];
+        itemPicks = new SplittableRandom(itemSeed);
+        try (CopyWriter bookings = new CopyWriter(copyManager, "bookings",
+                "id, start_date, end_date, item_id, booker_id, status")) {
+            for (long id = base + 1; id <= base + bookingCount; id++) {
+                int item = skewed(itemPicks, itemCount);
+                long slot = Math.max(1, windowSeconds / bookingsPerItem[item]);
+                long duration = Math.max(1, slot * (30 + random.nextInt(61)) / 100);
+                long startSecond = written[item]++ * slot + random.nextLong(slot - duration + 1);
+                LocalDateTime start = origin.plusSeconds(startSecond);
+                LocalDateTime end = start.plusSeconds(duration);
+
+                long booker = userBase + 1 + random.nextInt(userCount);
+                if (booker == itemOwners[item]) {
+                    booker = userBase + 1 + (booker - userBase) % userCount;
+                }
+                bookings.value(id)
+                        .value(start)
+                        .value(end)
+                        .value(itemBase + 1 + item)
+                        .value(booker)
+                        .value(status(random, start.isAfter(now)).name())
+                        .endRow();
+                if ((id - base) % 1_000_000 == 0) {
+                    log.info("Copied {} bookings", id - base);
+                }
+            }
+        }
+        log.info("Copied {} bookings", bookingCount);
+    }
+
+    private void copyComments(CopyManager copyManager, SplittableRandom random, long base, long itemBase,
+                              long userBase) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        try (CopyWriter comments = new CopyWriter(copyManager, "comments", "id, text, item_id, author, created")) {
+            for (long id = base + 1; id <= base + commentCount; id++) {
+                comments.value(id)
+                        .value("Все отлично, спасибо! " + random.nextInt(1000))
+                        .value(itemBase + 1 + skewed(random, itemCount))
+                        .value("User " + (userBase + 1 + random.nextInt(userCount)))
+                        .value(now.minusMinutes(random.nextInt(60 * 24 * 365)))
+                        .endRow();
+            }
+        }
+        log.info("Copied {} comments", commentCount);
+    }
+
+    /**
+     * Index in [0, bound) where small indexes are much more likely; skew 1 is uniform.
+     */
+    private int skewed(SplittableRandom random, int bound) {
+        return (int) Math.min(bound - 1, (long) (bound * Math.pow(random.nextDouble(), skew)));
+    }
+
+    private Status status(SplittableRandom random, boolean isFuture) {
+        int roll = random.nextInt(100);
+        if (isFuture) {
+            return roll < 60 ? Status.WAITING : roll < 90 ? Status.APPROVED : Status.REJECTED;
+        }
+        return roll < 85 ? Status.APPROVED : roll < 95 ? Status.REJECTED : Status.CANCELED;
+    }
+
+    private long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
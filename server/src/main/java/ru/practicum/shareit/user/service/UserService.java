@@ -11,6 +11,12 @@ public interface UserService {
 
     UserDto getUserById(Integer userId);
 
+    /**
+     * Same as {@link #getUserById(Integer)}, but a missing user is reported with the caller's message,
+     * formatted with the user id.
+     */
+    UserDto getUserById(Integer userId, String notFoundMessage);
+
     void deleteUserById(Integer userId);
 
     void deleteAllUsers();
@@ -1,8 +1,12 @@
 package ru.practicum.shareit.user.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.user.dto.UserDto;
@@ -15,6 +19,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "shareit.service", histogram = true)
 @Data
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
@@ -30,7 +35,7 @@ public class UserServiceImpl implements UserService {
     public UserDto create(UserDto userDto) {
         if (isDuplicateEmail(userDto.getEmail(), userDto.getId())) {
             try {
-                userStorage.save(UserDto.fromUserDto(userDto));
+                userStorage.saveAndFlush(UserDto.fromUserDto(userDto));
             } catch (Exception e) {
                 throw new EmailValidationException(String.format(errorMessage[0], userDto.getEmail()));
             }
@@ -41,6 +46,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
+    @CachePut(cacheNames = "users", key = "#id")
     public UserDto update(UserDto userDto, Integer id) {
         if (id == null || !userStorage.existsById(id)) {
             throw new NotFoundException(String.format(errorMessage[1], id));
@@ -59,19 +65,28 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Cacheable(cacheNames = "users")
     public UserDto getUserById(Integer userId) {
+        return getUserById(userId, errorMessage[1]);
+    }
+
+    @Override
+    @Cacheable(cacheNames = "users", key = "#userId")
+    public UserDto getUserById(Integer userId, String notFoundMessage) {
         return UserDto.toUserDto(userStorage.findById(userId)
-                .orElseThrow(() -> new NotFoundException(String.format(errorMessage[1], userId))));
+                .orElseThrow(() -> new NotFoundException(String.format(notFoundMessage, userId))));
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = "users")
     public void deleteUserById(Integer userId) {
         userStorage.deleteById(userId);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = "users", allEntries = true)
     public void deleteAllUsers() {
         userStorage.deleteAll();
     }
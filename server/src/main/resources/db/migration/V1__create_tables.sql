@@ -1,5 +1,3 @@
-DROP TABLE IF EXISTS users, items, bookings, requests, comments;
-
 CREATE TABLE IF NOT EXISTS users (
     id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
     name VARCHAR(255) NOT NULL,
@@ -39,4 +37,4 @@ CREATE TABLE IF NOT EXISTS comments (
     item_id BIGINT NOT NULL CONSTRAINT comments_items_fkey REFERENCES items ON DELETE CASCADE ON UPDATE CASCADE,
     author VARCHAR(255) NOT NULL,
     created TIMESTAMP NOT NULL
-);
\ No newline at end of file
+);
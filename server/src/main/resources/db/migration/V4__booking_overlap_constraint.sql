@@ -0,0 +1,23 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Databases that already hold overlapping approved bookings cannot take the constraint.
+-- Fail with the offending pairs instead of the generic exclusion error; resolve them by
+-- rejecting one booking of each pair, then re-run the migration.
+DO $$
+DECLARE
+    conflicts TEXT;
+BEGIN
+    SELECT string_agg(format('%s/%s', a.id, b.id), ', ')
+    INTO conflicts
+    FROM bookings a
+    JOIN bookings b ON a.item_id = b.item_id AND a.id < b.id
+    WHERE a.status = 'APPROVED' AND b.status = 'APPROVED'
+      AND tsrange(a.start_date, a.end_date) && tsrange(b.start_date, b.end_date);
+    IF conflicts IS NOT NULL THEN
+        RAISE EXCEPTION 'Overlapping approved bookings must be resolved before V4: %', conflicts;
+    END IF;
+END $$;
+
+ALTER TABLE bookings ADD CONSTRAINT bookings_approved_no_overlap
+    EXCLUDE USING GIST (item_id WITH =, tsrange(start_date, end_date) WITH &&)
+    WHERE (status = 'APPROVED');
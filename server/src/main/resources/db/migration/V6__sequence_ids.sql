@@ -0,0 +1,26 @@
+-- Ids are allocated by Hibernate from pooled sequences (allocationSize = 50) so inserts can be batched.
+-- A sequence value is the upper bound of the block handed out, hence the +50 offset past the current max id.
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50 OWNED BY users.id;
+SELECT setval('users_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM users), false);
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+
+ALTER TABLE requests ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS requests_seq INCREMENT BY 50 OWNED BY requests.id;
+SELECT setval('requests_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM requests), false);
+ALTER TABLE requests ALTER COLUMN id SET DEFAULT nextval('requests_seq');
+
+ALTER TABLE items ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS items_seq INCREMENT BY 50 OWNED BY items.id;
+SELECT setval('items_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM items), false);
+ALTER TABLE items ALTER COLUMN id SET DEFAULT nextval('items_seq');
+
+ALTER TABLE bookings ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS bookings_seq INCREMENT BY 50 OWNED BY bookings.id;
+SELECT setval('bookings_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM bookings), false);
+ALTER TABLE bookings ALTER COLUMN id SET DEFAULT nextval('bookings_seq');
+
+ALTER TABLE comments ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS comments_seq INCREMENT BY 50 OWNED BY comments.id;
+SELECT setval('comments_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM comments), false);
+ALTER TABLE comments ALTER COLUMN id SET DEFAULT nextval('comments_seq');
@@ -0,0 +1,47 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Paging parameters carry constraint annotations, which Spring MVC validates on every call and
+ * which need a Bean Validation provider on the classpath.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ControllerValidationTest extends PostgresTest {
+    private static final String HEADER = "X-Sharer-User-Id";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void constrainedPagingParametersAreAccepted() throws Exception {
+        Integer userId = createUser().getId();
+
+        mockMvc.perform(get("/items/search").param("text", "drill").header(HEADER, userId))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/items").header(HEADER, userId))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/bookings").header(HEADER, userId))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/requests/all").header(HEADER, userId))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void negativePagingParametersAreRejected() throws Exception {
+        Integer userId = createUser().getId();
+
+        mockMvc.perform(get("/items/search").param("text", "drill").param("from", "-1").header(HEADER, userId))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/items").param("size", "0").header(HEADER, userId))
+                .andExpect(status().isBadRequest());
+    }
+}
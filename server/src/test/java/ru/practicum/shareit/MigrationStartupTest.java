@@ -0,0 +1,76 @@
+package ru.practicum.shareit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the server twice against a new database and logs both startup times: the first boot applies every
+ * migration, a repeat boot finds nothing pending and keeps the data written before the restart. An unmeasured
+ * boot against another database comes first, so both measured boots run on a warm JVM.
+ */
+@Slf4j
+class MigrationStartupTest extends PostgresTest {
+
+    @Test
+    void repeatBootAppliesNoMigrationsAndKeepsData() {
+        boot(newDatabase(), context -> {
+            // warms up the JVM so that the first measured boot is not charged with class loading
+        });
+        String url = newDatabase();
+        int[] migrations = new int[1];
+
+        Duration firstBoot = boot(url, context -> {
+            migrations[0] = appliedMigrations(context);
+            assertThat(migrations[0]).isPositive();
+            assertThat(context.getBean(Flyway.class).info().pending()).isEmpty();
+            context.getBean(JdbcTemplate.class).update("insert into users (id, name, email) " +
+                    "values (nextval('users_seq'), 'Survivor', 'survivor@mail.ru')");
+        });
+        Duration repeatBoot = boot(url, context -> {
+            assertThat(appliedMigrations(context)).isEqualTo(migrations[0]);
+            assertThat(context.getBean(Flyway.class).info().pending()).isEmpty();
+            assertThat(context.getBean(JdbcTemplate.class)
+                    .queryForObject("select count(*) from users where email = 'survivor@mail.ru'", Integer.class))
+                    .isEqualTo(1);
+        });
+
+        log.info("Server startup with {} migrations: first boot {} ms, repeat boot {} ms", migrations[0],
+                firstBoot.toMillis(), repeatBoot.toMillis());
+    }
+
+    private String newDatabase() {
+        String database = "startup_" + System.nanoTime();
+        new JdbcTemplate(POSTGRES.getPostgresDatabase()).execute("create database " + database);
+        return POSTGRES.getJdbcUrl("postgres", database);
+    }
+
+    private Duration boot(String url, Consumer<ConfigurableApplicationContext> check) {
+        long started = System.nanoTime();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + url,
+                        "--spring.datasource.username=postgres",
+                        "--spring.datasource.password=",
+                        // closing the context closes its JCache manager, which must not be the one shared by the
+                        // test contexts of this JVM
+                        "--spring.jpa.properties.hibernate.javax.cache.uri=application.conf")) {
+            Duration startup = Duration.ofNanos(System.nanoTime() - started);
+            check.accept(context);
+            return startup;
+        }
+    }
+
+    private int appliedMigrations(ConfigurableApplicationContext context) {
+        return context.getBean(Flyway.class).info().applied().length;
+    }
+}
@@ -0,0 +1,47 @@
+package ru.practicum.shareit;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+
+/**
+ * Runs the Spring context against a real PostgreSQL, started once per test JVM and
+ * migrated by Flyway on the first context start. The constraints and indexes under
+ * test only exist in PostgreSQL, so H2 is not an option here.
+ */
+public abstract class PostgresTest {
+    protected static final EmbeddedPostgres POSTGRES = start();
+
+    @Autowired
+    protected UserService userService;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    /**
+     * Creates a user with a unique email, since the database is shared by all tests of the JVM.
+     */
+    protected UserDto createUser() {
+        String name = UUID.randomUUID().toString();
+        return userService.create(new UserDto(null, name, name + "@mail.ru"));
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            return EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
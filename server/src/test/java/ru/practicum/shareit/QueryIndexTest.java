@@ -0,0 +1,133 @@
+package ru.practicum.shareit;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.repository.RequestRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the SQL each hot repository method generates can use its index from V3. The statement is
+ * recorded by Hibernate, prepared and explained with a generic plan, so no parameter values are needed.
+ * Sequential scans are disabled because the test tables are too small for the planner to prefer an index
+ * on its own.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "ru.practicum.shareit.QueryIndexTest$SqlRecorder")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryIndexTest extends PostgresTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private RequestRepository requestRepository;
+
+    Stream<Arguments> repositoryQueries() {
+        PageRequest page = PageRequest.of(0, 20);
+        List<Integer> ids = List.of(1, 2);
+        LocalDateTime now = LocalDateTime.now();
+        return Stream.of(
+                query("findByRequestorIdOrderByCreatedDesc",
+                        () -> requestRepository.findByRequestorIdOrderByCreatedDesc(1),
+                        "requests_requestor_created_idx"),
+                query("findAllByOwnerId",
+                        () -> itemRepository.findAllByOwnerId(1, page),
+                        "items_owner_idx"),
+                query("findAllByRequestIdInOrderByIdDesc",
+                        () -> itemRepository.findAllByRequestIdInOrderByIdDesc(ids),
+                        "items_request_idx"),
+                query("findByBookerIdOrderByStartDesc",
+                        () -> bookingRepository.findByBookerIdOrderByStartDesc(1, page),
+                        "bookings_booker_start_idx"),
+                query("findLastApprovedByItemIdIn",
+                        () -> bookingRepository.findLastApprovedByItemIdIn(ids, now),
+                        "bookings_item_status_start_idx"),
+                query("findNextApprovedByItemIdIn",
+                        () -> bookingRepository.findNextApprovedByItemIdIn(ids, now),
+                        "bookings_item_status_start_idx"),
+                query("findByItemOwnerIdOrderByStartDesc",
+                        () -> bookingRepository.findByItemOwnerIdOrderByStartDesc(1, page),
+                        "items_owner_idx", "bookings_item_status_start_idx"),
+                query("findByItemIdIn",
+                        () -> commentRepository.findByItemIdIn(ids),
+                        "comments_item_idx"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("repositoryQueries")
+    void generatedQueryUsesIndex(Runnable repositoryCall, List<String> indexes) {
+        SqlRecorder.STATEMENTS.clear();
+        repositoryCall.run();
+        assertThat(SqlRecorder.STATEMENTS).hasSize(1);
+
+        String plan = String.join("\n", explain(SqlRecorder.STATEMENTS.get(0)));
+
+        assertThat(plan).contains(indexes);
+    }
+
+    private List<String> explain(String sql) {
+        StringBuilder prepared = new StringBuilder();
+        int parameters = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                prepared.append('$').append(++parameters);
+            } else {
+                prepared.append(c);
+            }
+        }
+        String execute = parameters == 0 ? "execute repository_query"
+                : "execute repository_query(" + String.join(", ", Collections.nCopies(parameters, "null")) + ")";
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("set local enable_seqscan = off");
+            jdbcTemplate.execute("set local plan_cache_mode = force_generic_plan");
+            jdbcTemplate.execute("prepare repository_query as " + prepared);
+            try {
+                return jdbcTemplate.queryForList("explain " + execute, String.class);
+            } finally {
+                jdbcTemplate.execute("deallocate repository_query");
+            }
+        });
+    }
+
+    private static Arguments query(String method, Runnable repositoryCall, String... indexes) {
+        return Arguments.of(Named.of(method, repositoryCall), List.of(indexes));
+    }
+
+    /**
+     * Keeps the SQL Hibernate sends, unchanged.
+     */
+    public static class SqlRecorder implements StatementInspector {
+        static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
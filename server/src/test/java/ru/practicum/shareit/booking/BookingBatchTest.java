@@ -0,0 +1,60 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.PostgresTest;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.BookingException;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class BookingBatchTest extends PostgresTest {
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private BookingService bookingService;
+
+    @Test
+    void batchOverLimitIsRejected() {
+        Integer bookerId = createUser().getId();
+        BookingDto dto = new BookingDto(null, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2),
+                1, null, null, null);
+
+        assertThatThrownBy(() -> bookingService.addAll(Collections.nCopies(101, dto), bookerId))
+                .isInstanceOf(BookingException.class);
+        assertThatThrownBy(() -> bookingService.addAll(List.of(), bookerId))
+                .isInstanceOf(BookingException.class);
+    }
+
+    @Test
+    void batchReportsEachEntry() {
+        Integer itemId = itemService.create(new ItemDto(null, "kayak", "two-seat kayak", true, null),
+                createUser().getId()).getId();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<BookingDto> batch = Arrays.asList(
+                new BookingDto(null, start, start.plusHours(1), itemId, null, null, null),
+                new BookingDto(null, start, start.minusHours(1), itemId, null, null, null),
+                new BookingDto(null, start, start.plusHours(1), -1, null, null, null),
+                null);
+
+        List<BookingBatchResultDto> results = bookingService.addAll(batch, createUser().getId());
+
+        assertThat(results).extracting(BookingBatchResultDto::getIndex).containsExactly(0, 1, 2, 3);
+        assertThat(results.get(0).getBooking()).isNotNull();
+        assertThat(results.get(1).getError()).isNotNull();
+        assertThat(results.get(2).getError()).isNotNull();
+        assertThat(results.get(3).getError()).isEqualTo("Batch entry 3 is empty");
+    }
+}
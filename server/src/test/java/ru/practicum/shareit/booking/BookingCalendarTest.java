@@ -0,0 +1,70 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.PostgresTest;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.AvailabilityInterval;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class BookingCalendarTest extends PostgresTest {
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void approvalPatchesTheCachedCalendarInsteadOfReloadingIt() {
+        Integer ownerId = createUser().getId();
+        Integer bookerId = createUser().getId();
+        Integer itemId = itemService.create(new ItemDto(null, "canoe", "three-seat canoe", true, null),
+                ownerId).getId();
+        LocalDateTime from = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.DAYS);
+        LocalDateTime to = from.plusDays(1);
+        Integer bookingId = bookingService.add(new BookingDto(null, from.plusHours(2), from.plusHours(4), itemId,
+                null, null, null), bookerId).getId();
+        assertThat(itemService.getAvailability(itemId, ownerId, from, to).getBusy()).isEmpty();
+        // written behind the calendar's back, so it only shows up if the calendar is reloaded
+        jdbcTemplate.update("insert into bookings (id, start_date, end_date, item_id, booker_id, status) " +
+                "values (nextval('bookings_seq'), ?, ?, ?, ?, 'APPROVED')", from.plusHours(8), from.plusHours(9),
+                itemId, bookerId);
+
+        bookingService.update(bookingId, ownerId, true);
+
+        assertThat(itemService.getAvailability(itemId, ownerId, from, to).getBusy())
+                .containsExactly(new AvailabilityInterval(from.plusHours(2), from.plusHours(4)));
+    }
+
+    @Test
+    void rejectionLeavesTheCachedCalendarUnchanged() {
+        Integer ownerId = createUser().getId();
+        Integer bookerId = createUser().getId();
+        Integer itemId = itemService.create(new ItemDto(null, "sup board", "inflatable board", true, null),
+                ownerId).getId();
+        LocalDateTime from = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.DAYS);
+        LocalDateTime to = from.plusDays(1);
+        Integer approvedId = bookingService.add(new BookingDto(null, from.plusHours(1), from.plusHours(2), itemId,
+                null, null, null), bookerId).getId();
+        Integer rejectedId = bookingService.add(new BookingDto(null, from.plusHours(3), from.plusHours(4), itemId,
+                null, null, null), bookerId).getId();
+        bookingService.update(approvedId, ownerId, true);
+        assertThat(itemService.getAvailability(itemId, ownerId, from, to).getBusy()).hasSize(1);
+
+        bookingService.update(rejectedId, ownerId, false);
+
+        assertThat(itemService.getAvailability(itemId, ownerId, from, to).getBusy())
+                .containsExactly(new AvailabilityInterval(from.plusHours(1), from.plusHours(2)));
+    }
+}
@@ -0,0 +1,109 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import ru.practicum.shareit.PostgresTest;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The test holds a row lock on the booking until both requests have read it and are waiting
+ * to write it, so the version check has to reject whichever update runs second.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class BookingConcurrentUpdateTest extends PostgresTest {
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private BookingService bookingService;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Integer ownerId;
+    private Integer bookingId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = createUser().getId();
+        Integer itemId = itemService.create(new ItemDto(null, "saw", "circular saw", true, null), ownerId).getId();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        bookingId = bookingService.add(new BookingDto(null, start, start.plusHours(1), itemId, null, null, null),
+                createUser().getId()).getId();
+
+    }
+
+    @Test
+    void concurrentApprovalsOfSameBookingConflict() throws Exception {
+        assertThat(race(true, true)).containsExactlyInAnyOrder(200, 409);
+    }
+
+    @Test
+    void concurrentApprovalAndRejectionOfSameBookingConflict() throws Exception {
+        assertThat(race(true, false)).containsExactlyInAnyOrder(200, 409);
+    }
+
+    private List<Integer> race(boolean first, boolean second) throws Exception {
+        CompletableFuture<HttpResponse<String>> a;
+        CompletableFuture<HttpResponse<String>> b;
+        try (Connection connection = POSTGRES.getPostgresDatabase().getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement lock = connection.prepareStatement(
+                    "select id from bookings where id = ? for update")) {
+                lock.setInt(1, bookingId);
+                lock.executeQuery();
+            }
+            a = patch(first);
+            b = patch(second);
+            awaitBlockedUpdates(2);
+            connection.rollback();
+        }
+        return List.of(a.join().statusCode(), b.join().statusCode());
+    }
+
+    private void awaitBlockedUpdates(int expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            try (Connection connection = POSTGRES.getPostgresDatabase().getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("select count(*) from pg_stat_activity " +
+                         "where wait_event_type = 'Lock' and query ~* '^\\s*update\\s+bookings'")) {
+                rs.next();
+                if (rs.getInt(1) == expected) {
+                    return;
+                }
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("Updates did not reach the locked booking row");
+    }
+
+    private CompletableFuture<HttpResponse<String>> patch(boolean isApproved) {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/bookings/" + bookingId + "?approved=" + isApproved))
+                .header("X-Sharer-User-Id", ownerId.toString())
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                .build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,95 @@
+package ru.practicum.shareit.booking;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.PostgresTest;
+import ru.practicum.shareit.booking.dto.BookingDtoResponse;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Booking lists are built from projections, so a page costs one statement and loads no entities,
+ * whatever the number of items and bookers on it.
+ */
+@SpringBootTest
+class BookingListQueryCountTest extends PostgresTest {
+    private static final int ITEMS = 4;
+
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Integer ownerId;
+    private Integer bookerId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        ownerId = createUser().getId();
+        bookerId = createUser().getId();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ITEMS; i++) {
+            Integer itemId = itemService.create(new ItemDto(null, "boat " + i, "rubber boat", true, null),
+                    ownerId).getId();
+            insert(itemId, now.minusDays(3), now.minusDays(2), "APPROVED");
+            insert(itemId, now.minusHours(1), now.plusHours(1), "APPROVED");
+            insert(itemId, now.plusDays(2), now.plusDays(3), "WAITING");
+            insert(itemId, now.plusDays(4), now.plusDays(5), "REJECTED");
+        }
+        // the user lookup is served from the cache, so only the list query is counted
+        userService.getUserById(ownerId);
+        userService.getUserById(bookerId);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"})
+    void bookerListTakesOneStatement(String state) {
+        assertOneStatement(() -> bookingService.getAllByBooker(state, bookerId, 0, 20));
+        assertOneStatement(() -> bookingService.getAllByBookerAfter(state, bookerId, null, 20));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"})
+    void ownerListTakesOneStatement(String state) {
+        assertOneStatement(() -> bookingService.getAllByOwner(state, ownerId, 0, 20));
+        assertOneStatement(() -> bookingService.getAllByOwnerAfter(state, ownerId, null, 20));
+    }
+
+    private void assertOneStatement(Supplier<List<BookingDtoResponse>> list) {
+        statistics.clear();
+
+        List<BookingDtoResponse> bookings = list.get();
+
+        assertThat(bookings).isNotEmpty().allSatisfy(b -> {
+            assertThat(b.getItem().getName()).startsWith("boat");
+            assertThat(b.getBooker().getId()).isEqualTo(bookerId);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private void insert(Integer itemId, LocalDateTime start, LocalDateTime end, String status) {
+        jdbcTemplate.update("insert into bookings (id, start_date, end_date, item_id, booker_id, status) " +
+                "values (nextval('bookings_seq'), ?, ?, ?, ?, ?)", start, end, itemId, bookerId, status);
+    }
+}
@@ -0,0 +1,117 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.PostgresTest;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.BookingException;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class BookingOverlapConstraintTest extends PostgresTest {
+    private static final int THREADS = 8;
+
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Integer ownerId;
+    private Integer itemId;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = createUser().getId();
+        itemId = itemService.create(new ItemDto(null, "drill", "cordless drill", true, null), ownerId).getId();
+        start = LocalDateTime.now().plusDays(1).withNano(0);
+    }
+
+    @Test
+    void concurrentApprovalsOfOverlappingBookingsApproveExactlyOne() throws Exception {
+        List<Integer> bookingIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            BookingDto dto = new BookingDto(null, start.plusMinutes(i), start.plusHours(2), itemId, null, null, null);
+            bookingIds.add(bookingService.add(dto, createUser().getId()).getId());
+        }
+
+        List<Throwable> failures = race(bookingIds.stream()
+                .<Callable<Object>>map(id -> () -> bookingService.update(id, ownerId, true))
+                .toList());
+
+        assertThat(failures).hasSize(THREADS - 1).allMatch(BookingException.class::isInstance);
+        assertThat(countApproved()).isEqualTo(1);
+    }
+
+    @Test
+    void constraintRejectsConcurrentOverlappingApprovedInserts() throws Exception {
+        Integer bookerId = createUser().getId();
+        List<Callable<Object>> inserts = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            LocalDateTime from = start.plusMinutes(i);
+            inserts.add(() -> transactionTemplate.execute(status -> jdbcTemplate.update(
+                    "insert into bookings (id, start_date, end_date, item_id, booker_id, status) " +
+                            "values (nextval('bookings_seq'), ?, ?, ?, ?, 'APPROVED')",
+                    from, start.plusHours(2), itemId, bookerId)));
+        }
+
+        List<Throwable> failures = race(inserts);
+
+        assertThat(failures).hasSize(THREADS - 1).allMatch(DataIntegrityViolationException.class::isInstance);
+        assertThat(countApproved()).isEqualTo(1);
+    }
+
+    private List<Throwable> race(List<Callable<Object>> tasks) throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (Callable<Object> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    ready.await();
+                    return task.call();
+                }));
+            }
+            ready.countDown();
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Integer countApproved() {
+        return jdbcTemplate.queryForObject("select count(*) from bookings where item_id = ? and status = 'APPROVED'",
+                Integer.class, itemId);
+    }
+}
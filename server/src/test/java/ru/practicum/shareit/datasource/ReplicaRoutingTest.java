@@ -0,0 +1,98 @@
+package ru.practicum.shareit.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.PostgresTest;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing against stand-in replicas: a second database of the embedded instance plays a healthy replica,
+ * a closed port one that is down. The database a statement runs in tells where it was routed.
+ */
+@SpringBootTest
+class ReplicaRoutingTest extends PostgresTest {
+    private static final String REPLICA_DATABASE = "replica_stand_in";
+    private static final String UNREACHABLE_URL = "jdbc:postgresql://localhost:" + closedPort() + "/postgres";
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+    @Autowired
+    private HikariDataSource primaryDataSource;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @DynamicPropertySource
+    static void replicas(DynamicPropertyRegistry registry) {
+        registry.add("shareit.datasource.replica-urls",
+                () -> createReplicaDatabase() + "," + UNREACHABLE_URL);
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReachableReplica() {
+        routingDataSource.checkReplicationLag();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(currentDatabase(readOnly, jdbcTemplate)).isEqualTo(REPLICA_DATABASE);
+        }
+        assertThat(currentDatabase(transactionTemplate, jdbcTemplate)).isEqualTo("postgres");
+    }
+
+    @Test
+    void readOnlyTransactionsFallBackToThePrimaryWhenNoReplicaIsReachable() {
+        try (HikariDataSource unreachable = new HikariDataSource()) {
+            unreachable.setJdbcUrl(UNREACHABLE_URL);
+            unreachable.setUsername("postgres");
+            ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primaryDataSource,
+                    Map.of("replica-0", unreachable), Duration.ofSeconds(5));
+            routing.afterPropertiesSet();
+            routing.checkReplicationLag();
+            DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+            TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            readOnly.setReadOnly(true);
+
+            assertThat(currentDatabase(readOnly, new JdbcTemplate(dataSource))).isEqualTo("postgres");
+        }
+    }
+
+    private static String currentDatabase(TransactionTemplate transaction, JdbcTemplate jdbc) {
+        return transaction.execute(status -> jdbc.queryForObject("select current_database()", String.class));
+    }
+
+    private static String createReplicaDatabase() {
+        JdbcTemplate admin = new JdbcTemplate(POSTGRES.getPostgresDatabase());
+        Integer exists = admin.queryForObject("select count(*) from pg_database where datname = ?", Integer.class,
+                REPLICA_DATABASE);
+        if (exists == 0) {
+            admin.execute("create database " + REPLICA_DATABASE);
+        }
+        return POSTGRES.getJdbcUrl("postgres", REPLICA_DATABASE);
+    }
+
+    private static int closedPort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package ru.practicum.shareit.item;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.PostgresTest;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ItemServiceQueryCountTest extends PostgresTest {
+    private static final int ITEMS = 5;
+    private static final int BOOKINGS_PER_SIDE = 20;
+
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Integer ownerId;
+    private final Map<Integer, Integer> lastBookingIds = new HashMap<>();
+    private final Map<Integer, Integer> nextBookingIds = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        ownerId = createUser().getId();
+        Integer bookerId = createUser().getId();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ITEMS; i++) {
+            Integer itemId = itemService.create(new ItemDto(null, "tent " + i, "four-person tent", true, null),
+                    ownerId).getId();
+            for (int k = 1; k <= BOOKINGS_PER_SIDE; k++) {
+                lastBookingIds.put(itemId, insertApproved(itemId, bookerId, now.minusDays(k)));
+            }
+            for (int k = BOOKINGS_PER_SIDE; k >= 1; k--) {
+                nextBookingIds.put(itemId, insertApproved(itemId, bookerId, now.plusDays(k)));
+            }
+            jdbcTemplate.update("insert into comments (id, text, item_id, author, created) " +
+                    "values (nextval('comments_seq'), 'dry inside', ?, 'booker', ?)", itemId, now);
+        }
+    }
+
+    @Test
+    void itemsOfOwnerAreLoadedWithConstantStatementsAndOnlyLastAndNextBookings() {
+        long statementsForOneItem = countStatements(1);
+
+        statistics.clear();
+        List<ItemDtoWithBooking> items = itemService.getItemsByUser(ownerId, 0, ITEMS);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsForOneItem);
+        assertThat(statistics.getEntityStatistics(Booking.class.getName()).getLoadCount()).isEqualTo(2L * ITEMS);
+        assertThat(items).hasSize(ITEMS).allSatisfy(item -> {
+            assertThat(item.getLastBooking().getId()).isEqualTo(lastBookingIds.get(item.getId()));
+            assertThat(item.getNextBooking().getId()).isEqualTo(nextBookingIds.get(item.getId()));
+            assertThat(item.getComments()).hasSize(1);
+        });
+    }
+
+    @Test
+    void searchTakesOneStatement() {
+        statistics.clear();
+
+        List<ItemDto> items = itemService.getItemsByText("four-person", 0, ITEMS);
+
+        assertThat(items).hasSize(ITEMS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private long countStatements(int size) {
+        statistics.clear();
+        itemService.getItemsByUser(ownerId, 0, size);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Integer insertApproved(Integer itemId, Integer bookerId, LocalDateTime start) {
+        return jdbcTemplate.queryForObject("insert into bookings (id, start_date, end_date, item_id, booker_id, " +
+                        "status) values (nextval('bookings_seq'), ?, ?, ?, ?, 'APPROVED') returning id",
+                Integer.class, start, start.plusHours(1), itemId, bookerId);
+    }
+}
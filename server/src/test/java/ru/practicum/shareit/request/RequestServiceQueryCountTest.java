@@ -0,0 +1,59 @@
+package ru.practicum.shareit.request;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.PostgresTest;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.service.RequestService;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RequestServiceQueryCountTest extends PostgresTest {
+    private static final int ITEMS_PER_REQUEST = 3;
+
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private RequestService requestService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void requestsOfUserAreLoadedWithConstantStatements() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Integer oneRequestUser = createUserWithRequests(1);
+        Integer fiveRequestsUser = createUserWithRequests(5);
+
+        statistics.clear();
+        requestService.getByUserId(oneRequestUser);
+        long statementsForOneRequest = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        List<ItemRequestDto> requests = requestService.getByUserId(fiveRequestsUser);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsForOneRequest);
+        assertThat(requests).hasSize(5).allSatisfy(r -> assertThat(r.getItems()).hasSize(ITEMS_PER_REQUEST));
+    }
+
+    private Integer createUserWithRequests(int count) {
+        Integer requestorId = createUser().getId();
+        Integer ownerId = createUser().getId();
+        for (int i = 0; i < count; i++) {
+            Integer requestId = requestService.add(new ItemRequestDto(null, "need a pump " + i, null, null),
+                    requestorId).getId();
+            for (int k = 0; k < ITEMS_PER_REQUEST; k++) {
+                itemService.create(new ItemDto(null, "pump " + k, "bicycle pump", true, requestId), ownerId);
+            }
+        }
+        return requestorId;
+    }
+}
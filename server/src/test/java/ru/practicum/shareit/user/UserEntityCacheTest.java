@@ -0,0 +1,56 @@
+package ru.practicum.shareit.user;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.PostgresTest;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UserEntityCacheTest extends PostgresTest {
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void lazyBookerIsLoadedFromSecondLevelCache() {
+        UserDto booker = createUser();
+        Integer itemId = itemService.create(new ItemDto(null, "tent", "two-person tent", true, null),
+                createUser().getId()).getId();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        Integer bookingId = bookingService.add(new BookingDto(null, start, start.plusDays(1), itemId,
+                null, null, null), booker.getId()).getId();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        String name = transactionTemplate.execute(status -> {
+            Booking booking = bookingRepository.findById(bookingId).orElseThrow();
+            statistics.clear();
+            return booking.getBooker().getName();
+        });
+
+        assertThat(name).isEqualTo(booker.getName());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics("users").getHitCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,80 @@
+package ru.practicum.shareit.user;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.PostgresTest;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.service.RequestService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class UserServiceCacheTest extends PostgresTest {
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private RequestService requestService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void rolledBackUpdateDoesNotReachCache() {
+        UserDto user = createUser();
+        userService.getUserById(user.getId());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.update(new UserDto(null, "renamed", null), user.getId());
+            status.setRollbackOnly();
+        });
+
+        assertThat(userService.getUserById(user.getId()).getName()).isEqualTo(user.getName());
+    }
+
+    @Test
+    void committedUpdateRefreshesCache() {
+        UserDto user = createUser();
+        userService.getUserById(user.getId());
+
+        userService.update(new UserDto(null, "renamed", null), user.getId());
+
+        assertThat(userService.getUserById(user.getId()).getName()).isEqualTo("renamed");
+    }
+
+    @Test
+    void rolledBackDeleteKeepsCachedUser() {
+        UserDto user = createUser();
+        userService.getUserById(user.getId());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.deleteUserById(user.getId());
+            status.setRollbackOnly();
+        });
+
+        assertThat(userService.getUserById(user.getId()).getId()).isEqualTo(user.getId());
+    }
+
+    @Test
+    void unknownUserKeepsServiceSpecificMessages() {
+        ItemDto item = new ItemDto(null, "ladder", "three-step ladder", true, null);
+
+        assertThatThrownBy(() -> itemService.create(item, -1))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage("User with id = -1 not found Item cannot be added to unknown user ");
+        assertThatThrownBy(() -> itemService.update(item, -1, 1))
+                .hasMessage("User with id = -1 not found Item cannot be updated by unknown user ");
+        assertThatThrownBy(() -> itemService.getItemsByUser(-1, 0, 10))
+                .hasMessage("User with id = -1 not found ");
+        assertThatThrownBy(() -> requestService.add(new ItemRequestDto(), -1))
+                .hasMessage("User with an id = -1 not found");
+        assertThatThrownBy(() -> requestService.getAll(-1, 0, 10))
+                .hasMessage("User with id -1 doesn't exist");
+    }
+}